@@ -15,6 +15,8 @@
  */
 package com.base.config;
 
+import com.base.core.serializer.JacksonSerializer;
+import com.base.core.serializer.JsonBodyHttpMessageConverter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -25,6 +27,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -58,12 +61,15 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final GlobalConfig globalConfig;
     private final ObjectMapper objectMapper;
+    private final JacksonSerializer jacksonSerializer;
 
     @Autowired
     public WebConfig(final GlobalConfig globalConfig,
-                     final ObjectMapper objectMapper) {
+                     final ObjectMapper objectMapper,
+                     final JacksonSerializer jacksonSerializer) {
         this.globalConfig = globalConfig;
         this.objectMapper = objectMapper;
+        this.jacksonSerializer = jacksonSerializer;
     }
 
     /** CORS configuration for all endpoints */
@@ -73,7 +79,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins(getAllowedOrigins())
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
-                .exposedHeaders("Authorization", "Content-Disposition", "X-CSRF-TOKEN")
+                .exposedHeaders("Authorization", "Content-Disposition", "X-CSRF-TOKEN", "Idempotent-Replayed")
                 .allowCredentials(true)
                 .maxAge(3600); // cache preflight
                                                                                                                                                                                                                                                                                  // response for 1h
@@ -158,15 +164,15 @@ public class WebConfig implements WebMvcConfigurer {
         })
                 .addPathPatterns("/**");
 
-        // Performance monitoring interceptor
+        // Performance monitoring interceptor; per-command phase timings are in CommandMetrics
         registry.addInterceptor(new HandlerInterceptor() {
-            private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+            private static final String START_TIME = WebConfig.class.getName() + ".START_TIME";
 
             @Override
             public boolean preHandle(HttpServletRequest request,
                                      HttpServletResponse response,
                                      Object handler) {
-                startTime.set(System.currentTimeMillis());
+                request.setAttribute(START_TIME, System.nanoTime());
                 return true;
             }
 
@@ -175,13 +181,11 @@ public class WebConfig implements WebMvcConfigurer {
                                         HttpServletResponse response,
                                         Object handler,
                                         Exception ex) {
-                Long start = startTime.get();
-                if (start != null) {
-                    long duration = System.currentTimeMillis() - start;
+                if (request.getAttribute(START_TIME) instanceof Long start) {
+                    long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
                     if (duration > 1000) { // Log slow requests
                         logger.warn("Slow request: {} {} took {}ms", request.getMethod(), request.getRequestURI(), duration);
                     }
-                    startTime.remove();
                 }
             }
         })
@@ -240,6 +244,9 @@ public class WebConfig implements WebMvcConfigurer {
     /** Custom message converters */
     @Override
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Controller JsonBody responses, streamed through the shared ObjectMapper
+        converters.add(new JsonBodyHttpMessageConverter(jacksonSerializer));
+
         // Jackson JSON converter
         converters.add(new MappingJackson2HttpMessageConverter(objectMapper));
 
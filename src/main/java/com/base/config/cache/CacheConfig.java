@@ -15,7 +15,10 @@
  */
 package com.base.config.cache;
 
+import com.base.core.command.service.CommandMetrics;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
@@ -24,12 +27,14 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.util.unit.DataSize;
 
 /**
  * @author YISivlay
@@ -48,41 +53,64 @@ public class CacheConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+    public CacheManager cacheManager(ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                                     CommandMetrics commandMetrics) {
+        var weigher = new CacheWeigher();
         boolean useRedis = Boolean.parseBoolean(env.getProperty("spring.redis.enabled", "false"));
         if (useRedis) {
             var connectionFactory = redisConnectionFactory.getIfAvailable();
             if (connectionFactory != null) {
                 logger.info("Using redis cache manager");
-                return createRedisCacheManager(connectionFactory);
+                return createRedisCacheManager(connectionFactory, commandMetrics, weigher);
             }
         }
         logger.info("Using default caffeine cache manager");
-        return createCaffeineCacheManager();
+        return createCaffeineCacheManager(commandMetrics, weigher);
     }
 
-    private CacheManager createRedisCacheManager(RedisConnectionFactory connectionFactory) {
+    private CacheManager createRedisCacheManager(RedisConnectionFactory connectionFactory,
+                                                 CommandMetrics commandMetrics,
+                                                 CacheWeigher weigher) {
         try {
             var config = new RedisStandaloneConfiguration();
             config.setHostName(env.getProperty("spring.data.redis.host", "localhost"));
             config.setPort(Integer.parseInt(env.getProperty("spring.data.redis.port", "6379")));
             config.setPassword(env.getProperty("spring.data.redis.password", "password"));
 
+            var compressionThreshold = env.getProperty("cache.redis.compression-threshold", DataSize.class, DataSize.ofKilobytes(1));
+            var valueSerializer = new VersionedRedisSerializer(compressionThreshold, new JsonCacheValueCodec());
             var cacheDefaults = RedisCacheConfiguration.defaultCacheConfig()
                     .entryTtl(Duration.ofHours(1))
                     .disableCachingNullValues()
-                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
 
-            return new CustomRedisCacheManager(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), cacheDefaults);
+            Map<String, RedisCacheConfiguration> cacheConfigurations = new LinkedHashMap<>();
+            for (var name : CACHE_NAMES) {
+                cacheConfigurations.put(name, cacheDefaults.entryTtl(CacheSpec.of(env, name)
+                        .ttl()));
+            }
+
+            var cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory)
+                    .withStatisticsCollector(CacheStatisticsCollector.create());
+            var redisTemplate = new StringRedisTemplate(connectionFactory);
+            var redisCacheManager = new CustomRedisCacheManager(cacheWriter, cacheDefaults, cacheConfigurations, commandMetrics, redisTemplate, env);
+
+            if (Boolean.parseBoolean(env.getProperty("cache.near.enabled", "true"))) {
+                var nearTtl = env.getProperty("cache.near.ttl", Duration.class, Duration.ofMinutes(5));
+                logger.info("Using caffeine near cache in front of redis");
+                return new TwoTierCacheManager(redisCacheManager, connectionFactory, redisTemplate, commandMetrics, env, weigher, nearTtl);
+            }
+            return redisCacheManager;
 
         } catch (Exception e) {
             logger.warn("Failed to create redis cache manager, falling back to caffeine cache manager", e);
-            return createCaffeineCacheManager();
+            return createCaffeineCacheManager(commandMetrics, weigher);
         }
     }
 
-    private CacheManager createCaffeineCacheManager() {
-        return new CustomCaffeineCacheManager(CACHE_NAMES);
+    private CacheManager createCaffeineCacheManager(CommandMetrics commandMetrics,
+                                                    CacheWeigher weigher) {
+        return new CustomCaffeineCacheManager(commandMetrics, env, weigher, CACHE_NAMES);
     }
 
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+
+/**
+ * Collapses cache evictions issued while a batch runs on the current thread. A cache cleared inside
+ * {@link #run(Supplier)} is cleared once when the batch returns or fails; otherwise its keyed evictions are applied
+ * together then, with a single page generation bump and, for a {@link TwoTierCache}, a single invalidation message.
+ *
+ * @author YISivlay
+ */
+public final class CacheEvictionBatch {
+
+    private static final ThreadLocal<Map<Cache, Deferred>> DEFERRED = new ThreadLocal<>();
+
+    private CacheEvictionBatch() {
+    }
+
+    public static <T> T run(Supplier<T> batch) {
+        if (DEFERRED.get() != null) {
+            return batch.get();
+        }
+        var deferred = new LinkedHashMap<Cache, Deferred>();
+        DEFERRED.set(deferred);
+        try {
+            return batch.get();
+        } finally {
+            DEFERRED.remove();
+            deferred.forEach((cache, pending) -> {
+                if (pending.clear) {
+                    cache.clear();
+                } else if (cache instanceof BatchEvictableCache evictable) {
+                    evictable.evictAll(pending.keys);
+                }
+            });
+        }
+    }
+
+    /**
+     * Records a clear of {@code cache} if a batch is running on this thread.
+     *
+     * @return {@code true} if the clear was deferred and must not be applied now
+     */
+    static boolean defer(Cache cache) {
+        var deferred = DEFERRED.get();
+        if (deferred == null) {
+            return false;
+        }
+        deferred.computeIfAbsent(cache, _ -> new Deferred()).clear = true;
+        return true;
+    }
+
+    /**
+     * Records an eviction of {@code key} from {@code cache} if a batch is running on this thread. A {@link PageKey}
+     * only records that pages must be retired.
+     *
+     * @return {@code true} if the eviction was deferred and must not be applied now
+     */
+    static boolean defer(BatchEvictableCache cache,
+                         Object key) {
+        var deferred = DEFERRED.get();
+        if (deferred == null) {
+            return false;
+        }
+        var pending = deferred.computeIfAbsent(cache, _ -> new Deferred());
+        if (!(key instanceof PageKey)) {
+            pending.keys.add(key);
+        }
+        return true;
+    }
+
+    private static final class Deferred {
+
+        private boolean clear;
+        private final Set<Object> keys = new LinkedHashSet<>();
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Generation of the {@link PageKey} entries held by one cache. A write moves it forward; pages stored under an older
+ * generation are never read again and age out with the cache's expiry.
+ *
+ * @author YISivlay
+ */
+public interface CacheGeneration {
+
+    long current();
+
+    void next();
+
+    default Object pageKey(PageKey key) {
+        return current() + ":" + key;
+    }
+
+    /** Per-node counter for the Caffeine cache */
+    static CacheGeneration local() {
+        var generation = new AtomicLong();
+        return new CacheGeneration() {
+            @Override
+            public long current() {
+                return generation.get();
+            }
+
+            @Override
+            public void next() {
+                generation.incrementAndGet();
+            }
+        };
+    }
+
+    /** Counter shared by every node through Redis */
+    static CacheGeneration redis(StringRedisTemplate redisTemplate,
+                                 String cacheName) {
+        var key = "cache-generation:" + cacheName;
+        return new CacheGeneration() {
+            @Override
+            public long current() {
+                var value = redisTemplate.opsForValue()
+                        .get(key);
+                return value == null
+                        ? 0
+                        : Long.parseLong(value);
+            }
+
+            @Override
+            public void next() {
+                redisTemplate.opsForValue()
+                        .increment(key);
+            }
+        };
+    }
+
+}
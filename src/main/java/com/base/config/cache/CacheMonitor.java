@@ -61,6 +61,18 @@ public class CacheMonitor {
                                 ? (double) hits / total
                                 : 1.0;
                         logger.info("Caffeine Cache [{}] hit ratio: {}% (cache_hits={}, database_hits={})", name, hitRatio * 100, hits, misses);
+                    } else if (cache instanceof TwoTierCache twoTierCache) {
+                        var nearHits = twoTierCache.getNearCache()
+                                .getCacheHits();
+                        var remoteHits = twoTierCache.getRemoteCache()
+                                .getCacheHits();
+                        var misses = twoTierCache.getRemoteCache()
+                                .getDatabaseHits();
+                        var total = nearHits + remoteHits + misses;
+                        var hitRatio = total > 0
+                                ? (double) (nearHits + remoteHits) / total
+                                : 1.0;
+                        logger.info("Two-tier Cache [{}] hit ratio: {}% (near_hits={}, redis_hits={}, database_hits={})", name, hitRatio * 100, nearHits, remoteHits, misses);
                     } else if (cache instanceof CustomRedisCache redisCache && redisConnectionFactory != null) {
                         var hits = redisCache.getCacheHits();
                         var misses = redisCache.getDatabaseHits();
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import java.time.Duration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Limits of one cache, read from {@code cache.<name>.*} with {@code cache.default.*} as fallback.
+ *
+ * @param maximumWeight     upper bound of the estimated size of all entries held in memory, see {@link CacheWeigher}
+ * @param ttl               time an entry lives after it is written, in memory and in Redis
+ * @param refreshAfterWrite age after which a hit reloads the entry in the background, zero to disable; only for
+ *                          loaders that do not depend on the caller
+ *
+ * @author YISivlay
+ */
+public record CacheSpec(DataSize maximumWeight,
+                        Duration ttl,
+                        Duration refreshAfterWrite) {
+
+    public static CacheSpec of(Environment environment,
+                               String name) {
+        var maximumWeight = property(environment, name, "maximum-weight", DataSize.class, DataSize.ofMegabytes(16));
+        var ttl = property(environment, name, "ttl", Duration.class, Duration.ofHours(1));
+        var refreshAfterWrite = property(environment, name, "refresh-after-write", Duration.class, Duration.ZERO);
+        return new CacheSpec(maximumWeight, ttl, refreshAfterWrite);
+    }
+
+    /**
+     * Limits of the per-node copy in front of Redis: the same weight, a TTL capped at {@code maximumTtl} so a lost
+     * invalidation heals sooner, and no refresh, which the Redis tier already does.
+     */
+    public CacheSpec near(Duration maximumTtl) {
+        return new CacheSpec(maximumWeight, ttl.compareTo(maximumTtl) < 0
+                ? ttl
+                : maximumTtl, Duration.ZERO);
+    }
+
+    /** Whether hits on entries older than {@link #refreshAfterWrite} reload them ahead of expiry */
+    public boolean refreshes() {
+        return refreshAfterWrite.isPositive() && refreshAfterWrite.compareTo(ttl) < 0;
+    }
+
+    private static <T> T property(Environment environment,
+                                  String name,
+                                  String key,
+                                  Class<T> type,
+                                  T fallback) {
+        return environment.getProperty("cache." + name + "." + key, type, environment.getProperty("cache.default." + key, type, fallback));
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import java.io.IOException;
+
+/**
+ * Encodes cached values for the Redis tier. {@link VersionedRedisSerializer} frames each payload with the
+ * {@link #version()} of the codec that wrote it, so a new codec can be rolled out while entries written by the old one
+ * are still being read.
+ *
+ * @author YISivlay
+ */
+public interface CacheValueCodec {
+
+    /** Identifies this codec's payloads; between 1 and 31, and never reused for a different format */
+    byte version();
+
+    byte[] encode(Object value) throws IOException;
+
+    Object decode(byte[] payload) throws IOException;
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import com.base.portfolio.location.commune.dto.CommuneDTO;
+import com.base.portfolio.location.district.dto.DistrictDTO;
+import com.base.portfolio.location.province.dto.ProvinceDTO;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Weighs cache entries by an estimate of their JSON size: {@value #ENTRY_WEIGHT} bytes per row, where a row is a DTO
+ * in a cached page, list, map or array, or one of the districts, communes and villages embedded in a location DTO.
+ * It is not the retained heap, but it costs one walk over the rows instead of a serialization on every put, and a
+ * province with its whole tree weighs what its rows do rather than what a single DTO does.
+ *
+ * @author YISivlay
+ */
+public class CacheWeigher implements Weigher<Object, Object> {
+
+    /** Rough JSON size of one cached DTO, between a village row and a user with its roles */
+    static final int ENTRY_WEIGHT = 512;
+
+    @Override
+    public int weigh(Object key,
+                     Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, rows(value)) * ENTRY_WEIGHT);
+    }
+
+    private static long rows(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case ProvinceDTO province -> 1 + rows(province.getDistricts());
+            case DistrictDTO district -> 1 + rows(district.getCommunes());
+            case CommuneDTO commune -> 1 + rows(commune.getVillages());
+            case Slice<?> slice -> rows(slice.getContent());
+            case Collection<?> collection -> collection.stream()
+                    .mapToLong(CacheWeigher::rows)
+                    .sum();
+            case Map<?, ?> map -> rows(map.values());
+            case Object[] array -> rows(Arrays.asList(array));
+            case CharSequence text -> Math.max(1, text.length() / ENTRY_WEIGHT);
+            case byte[] bytes -> Math.max(1, bytes.length / ENTRY_WEIGHT);
+            default -> 1;
+        };
+    }
+
+}
@@ -15,28 +15,52 @@
  */
 package com.base.config.cache;
 
+import com.base.core.command.service.CommandMetrics;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.cache.caffeine.CaffeineCache;
 
 /**
  * @author YISivlay
  */
-public class CustomCaffeineCache extends CaffeineCache {
+public class CustomCaffeineCache extends CaffeineCache implements BatchEvictableCache {
 
     private static final ConcurrentHashMap<String, Boolean> accessedCaches = new ConcurrentHashMap<>();
 
     private final AtomicLong cacheHits = new AtomicLong();
     private final AtomicLong databaseHits = new AtomicLong();
 
-    public CustomCaffeineCache(String name) {
+    private final CommandMetrics commandMetrics;
+    private final CacheGeneration generation = CacheGeneration.local();
+    private final SingleFlight loads = new SingleFlight();
+    private final Policy.FixedExpiration<Object, Object> expiration;
+    private final long refreshAfterWriteNanos;
+
+    public CustomCaffeineCache(String name,
+                               CacheSpec spec,
+                               Weigher<Object, Object> weigher,
+                               CommandMetrics commandMetrics) {
         super(name, Caffeine.newBuilder()
-                .expireAfterWrite(1, TimeUnit.HOURS)
-                .maximumSize(1000)
+                .maximumWeight(spec.maximumWeight()
+                        .toBytes())
+                .weigher(weigher)
+                .expireAfterWrite(spec.ttl())
                 .recordStats()
                 .build());
+        this.commandMetrics = commandMetrics;
+        this.expiration = expiration();
+        this.refreshAfterWriteNanos = spec.refreshes()
+                ? spec.refreshAfterWrite()
+                        .toNanos()
+                : 0;
     }
 
     @Override
@@ -51,6 +75,104 @@ public class CustomCaffeineCache extends CaffeineCache {
         return value;
     }
 
+    @Override
+    protected Object lookup(Object key) {
+        return super.lookup(storeKey(key));
+    }
+
+    /** Loads a missing key once however many callers ask for it, and reloads a hit older than refresh-after-write */
+    @Override
+    public <T> T get(Object key,
+                     Callable<T> valueLoader) {
+        accessedCaches.put(getName(), true);
+        var storeKey = storeKey(key);
+        var loaded = new AtomicBoolean();
+        var value = super.get(storeKey, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (loaded.get()) {
+            databaseHits.incrementAndGet();
+            return value;
+        }
+        cacheHits.incrementAndGet();
+        if (this.refreshAfterWriteNanos > 0) {
+            refreshAhead(storeKey, valueLoader);
+        }
+        return value;
+    }
+
+    private <T> void refreshAhead(Object storeKey,
+                                  Callable<T> valueLoader) {
+        var age = this.expiration.ageOf(storeKey, TimeUnit.NANOSECONDS);
+        if (age.isEmpty() || age.getAsLong() < this.refreshAfterWriteNanos) {
+            return;
+        }
+        var entries = getNativeCache().asMap();
+        var stored = entries.get(storeKey);
+        if (stored != null) {
+            // replace only the entry that was refreshed, so an eviction during the reload is not undone
+            this.loads.refresh(storeKey, valueLoader, value -> entries.replace(storeKey, stored, toStoreValue(value)));
+        }
+    }
+
+    @Override
+    public void put(Object key,
+                    Object value) {
+        super.put(storeKey(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key,
+                                    Object value) {
+        return super.putIfAbsent(storeKey(key), value);
+    }
+
+    /** Evicts the entry for {@code key} and retires every cached page */
+    @Override
+    public void evict(Object key) {
+        if (!CacheEvictionBatch.defer(this, key)) {
+            evictAll(key instanceof PageKey
+                    ? List.of()
+                    : List.of(key));
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<Object> keys) {
+        var start = System.nanoTime();
+        this.generation.next();
+        getNativeCache().invalidateAll(keys);
+        this.commandMetrics.recordCurrent(CommandMetrics.Phase.CACHE_EVICT, System.nanoTime() - start);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        this.generation.next();
+        return !(key instanceof PageKey) && super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        if (!CacheEvictionBatch.defer(this)) {
+            var start = System.nanoTime();
+            super.clear();
+            this.commandMetrics.recordCurrent(CommandMetrics.Phase.CACHE_EVICT, System.nanoTime() - start);
+        }
+    }
+
+    private Policy.FixedExpiration<Object, Object> expiration() {
+        return getNativeCache().policy()
+                .expireAfterWrite()
+                .orElseThrow();
+    }
+
+    private Object storeKey(Object key) {
+        return key instanceof PageKey page
+                ? this.generation.pageKey(page)
+                : key;
+    }
+
     public long getCacheHits() {
         return cacheHits.get();
     }
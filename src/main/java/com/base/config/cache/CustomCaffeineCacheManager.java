@@ -15,21 +15,35 @@
  */
 package com.base.config.cache;
 
+import com.base.core.command.service.CommandMetrics;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.util.Arrays;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.core.env.Environment;
 
 /**
  * @author YISivlay
  */
 public class CustomCaffeineCacheManager extends CaffeineCacheManager {
 
-    public CustomCaffeineCacheManager(String... cacheNames) {
-        super(cacheNames);
+    private final CommandMetrics commandMetrics;
+    private final Environment environment;
+    private final Weigher<Object, Object> weigher;
+
+    public CustomCaffeineCacheManager(CommandMetrics commandMetrics,
+                                      Environment environment,
+                                      Weigher<Object, Object> weigher,
+                                      String... cacheNames) {
+        this.commandMetrics = commandMetrics;
+        this.environment = environment;
+        this.weigher = weigher;
+        setCacheNames(Arrays.asList(cacheNames));
     }
 
     @Override
     protected CaffeineCache createCaffeineCache(String name) {
-        return new CustomCaffeineCache(name);
+        return new CustomCaffeineCache(name, CacheSpec.of(this.environment, name), this.weigher, this.commandMetrics);
     }
 
 }
@@ -15,23 +15,69 @@
  */
 package com.base.config.cache;
 
+import com.base.core.command.service.CommandMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 
 /**
  * @author YISivlay
  */
-public class CustomRedisCache extends RedisCache {
+public class CustomRedisCache extends RedisCache implements BatchEvictableCache {
+
+    private static final long MAX_TRACKED_KEYS = 10_000;
 
     private final AtomicLong cacheHits = new AtomicLong();
     private final AtomicLong databaseHits = new AtomicLong();
+    private final CommandMetrics commandMetrics;
+    private final CacheGeneration generation;
+    private final StringRedisTemplate redisTemplate;
+    private final SingleFlight loads = new SingleFlight();
+    private final long refreshAfterWriteNanos;
+
+    /**
+     * When this node last wrote each Redis key. An entry written by another node is timed from its first hit here, so
+     * its refresh may come late and it then expires into an ordinary single-flight load.
+     */
+    private final Cache<String, Long> writtenAt;
 
     protected CustomRedisCache(String name,
                                RedisCacheWriter cacheWriter,
-                               RedisCacheConfiguration cacheConfiguration) {
+                               RedisCacheConfiguration cacheConfiguration,
+                               CommandMetrics commandMetrics,
+                               CacheGeneration generation,
+                               StringRedisTemplate redisTemplate,
+                               CacheSpec spec) {
         super(name, cacheWriter, cacheConfiguration);
+        this.commandMetrics = commandMetrics;
+        this.generation = generation;
+        this.redisTemplate = redisTemplate;
+        this.refreshAfterWriteNanos = spec.refreshes()
+                ? spec.refreshAfterWrite()
+                        .toNanos()
+                : 0;
+        this.writtenAt = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_KEYS)
+                .expireAfterWrite(spec.ttl())
+                .build();
+    }
+
+    @Override
+    protected String createCacheKey(Object key) {
+        return super.createCacheKey(key instanceof PageKey page
+                ? this.generation.pageKey(page)
+                : key);
     }
 
     @Override
@@ -44,6 +90,133 @@ public class CustomRedisCache extends RedisCache {
         return value;
     }
 
+    /**
+     * Unlike {@link RedisCache}, which serializes every miss of this cache behind one lock, loads only wait for a load
+     * of the same key; a hit older than refresh-after-write is reloaded in the background.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key,
+                     Callable<T> valueLoader) {
+        var cacheKey = createCacheKey(key);
+        var cached = read(cacheKey);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            if (this.refreshAfterWriteNanos > 0) {
+                refreshAhead(key, cacheKey, valueLoader);
+            }
+            return (T) cached.get();
+        }
+        databaseHits.incrementAndGet();
+        return this.loads.load(cacheKey, () -> {
+            // a load that finished between the miss and joining the flight has already stored the value
+            var loaded = read(cacheKey);
+            if (loaded != null) {
+                return (T) loaded.get();
+            }
+            var value = valueLoader.call();
+            write(key, cacheKey, value);
+            return value;
+        });
+    }
+
+    private <T> void refreshAhead(Object key,
+                                  String cacheKey,
+                                  Callable<T> valueLoader) {
+        var now = System.nanoTime();
+        var lastWrite = this.writtenAt.get(cacheKey, _ -> now);
+        if (now - lastWrite < this.refreshAfterWriteNanos) {
+            return;
+        }
+        this.loads.refresh(cacheKey, valueLoader, value -> {
+            // an eviction during the reload drops the timestamp; do not bring the old entry back
+            if (this.writtenAt.getIfPresent(cacheKey) != null) {
+                rewrite(key, cacheKey, value);
+            }
+        });
+    }
+
+    /** Reads and writes by the key resolved once per call, so a page is never stored under a newer generation */
+    private ValueWrapper read(String cacheKey) {
+        var value = getCacheWriter().get(getName(), serializeCacheKey(cacheKey));
+        return value == null
+                ? null
+                : toValueWrapper(deserializeCacheValue(value));
+    }
+
+    private void write(Object key,
+                       String cacheKey,
+                       Object value) {
+        var storeValue = toStoreValue(value);
+        Duration ttl = getCacheConfiguration().getTtlFunction()
+                .getTimeToLive(key, value);
+        getCacheWriter().put(getName(), serializeCacheKey(cacheKey), serializeCacheValue(storeValue), ttl);
+        this.writtenAt.put(cacheKey, System.nanoTime());
+    }
+
+    /** Overwrites the entry only while it still exists, so a refresh never restores an entry another node evicted */
+    private void rewrite(Object key,
+                         String cacheKey,
+                         Object value) {
+        var binaryKey = serializeCacheKey(cacheKey);
+        var binaryValue = serializeCacheValue(toStoreValue(value));
+        Duration ttl = getCacheConfiguration().getTtlFunction()
+                .getTimeToLive(key, value);
+        var expiration = ttl == null || !ttl.isPositive()
+                ? Expiration.persistent()
+                : Expiration.from(ttl);
+        Boolean written = this.redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(binaryKey, binaryValue, expiration, RedisStringCommands.SetOption.ifPresent()));
+        if (Boolean.TRUE.equals(written)) {
+            this.writtenAt.put(cacheKey, System.nanoTime());
+        }
+    }
+
+    /**
+     * Applies an eviction received from another node, so a refresh in flight here does not write the entry back. Pages
+     * need nothing: the generation bump already moved readers to new keys.
+     */
+    void forgetWrite(Object key) {
+        if (!(key instanceof PageKey)) {
+            this.writtenAt.invalidate(createCacheKey(key));
+        }
+    }
+
+    void forgetWrites() {
+        this.writtenAt.invalidateAll();
+    }
+
+    /** Evicts the entry for {@code key} and retires every cached page */
+    @Override
+    public void evict(Object key) {
+        if (!CacheEvictionBatch.defer(this, key)) {
+            evictAll(key instanceof PageKey
+                    ? List.of()
+                    : List.of(key));
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<Object> keys) {
+        var start = System.nanoTime();
+        this.generation.next();
+        for (var key : keys) {
+            super.evict(key);
+            this.writtenAt.invalidate(createCacheKey(key));
+        }
+        this.commandMetrics.recordCurrent(CommandMetrics.Phase.CACHE_EVICT, System.nanoTime() - start);
+    }
+
+    @Override
+    public void clear() {
+        if (!CacheEvictionBatch.defer(this)) {
+            var start = System.nanoTime();
+            super.clear();
+            this.writtenAt.invalidateAll();
+            this.commandMetrics.recordCurrent(CommandMetrics.Phase.CACHE_EVICT, System.nanoTime() - start);
+        }
+    }
+
     public long getCacheHits() {
         return cacheHits.get();
     }
@@ -15,25 +15,41 @@
  */
 package com.base.config.cache;
 
+import com.base.core.command.service.CommandMetrics;
+import java.util.Map;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
  * @author YISivlay
  */
 public class CustomRedisCacheManager extends RedisCacheManager {
 
+    private final CommandMetrics commandMetrics;
+    private final StringRedisTemplate redisTemplate;
+    private final Environment environment;
+
     public CustomRedisCacheManager(RedisCacheWriter cacheWriter,
-                                   RedisCacheConfiguration defaultCacheConfiguration) {
-        super(cacheWriter, defaultCacheConfiguration);
+                                   RedisCacheConfiguration defaultCacheConfiguration,
+                                   Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+                                   CommandMetrics commandMetrics,
+                                   StringRedisTemplate redisTemplate,
+                                   Environment environment) {
+        super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations);
+        this.commandMetrics = commandMetrics;
+        this.redisTemplate = redisTemplate;
+        this.environment = environment;
     }
 
     @Override
     protected RedisCache createRedisCache(String name,
                                           RedisCacheConfiguration cacheConfig) {
-        return new CustomRedisCache(name, getCacheWriter(), cacheConfig);
+        var generation = CacheGeneration.redis(this.redisTemplate, name);
+        return new CustomRedisCache(name, getCacheWriter(), cacheConfig, this.commandMetrics, generation, this.redisTemplate, CacheSpec.of(this.environment, name));
     }
 
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Writes a value as its type name followed by the JSON of its fields, without the class name
+ * {@code GenericJackson2JsonRedisSerializer} embeds in every nested object. Pages keep their number, size and total
+ * next to the content so they read back as {@link PageImpl}. Only types under {@code com.base} are read back.
+ *
+ * @author YISivlay
+ */
+public class JsonCacheValueCodec implements CacheValueCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final byte OBJECT = 'O';
+    private static final byte LIST = 'L';
+    private static final byte PAGE = 'P';
+
+    private static final String READABLE_PACKAGE = "com.base.";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .defaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL))
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final ConcurrentHashMap<String, Class<?>> types = new ConcurrentHashMap<>();
+
+    @Override
+    public byte version() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        var out = new ByteArrayOutputStream(512);
+        var header = new DataOutputStream(out);
+        Object body = value;
+        if (value instanceof Page<?> page) {
+            header.writeByte(PAGE);
+            header.writeUTF(elementType(page.getContent()));
+            header.writeInt(page.getPageable()
+                    .isPaged()
+                            ? page.getNumber()
+                            : -1);
+            header.writeInt(page.getPageable()
+                    .isPaged()
+                            ? page.getSize()
+                            : -1);
+            header.writeLong(page.getTotalElements());
+            body = page.getContent();
+        } else if (value instanceof List<?> list) {
+            header.writeByte(LIST);
+            header.writeUTF(elementType(list));
+        } else {
+            header.writeByte(OBJECT);
+            header.writeUTF(value.getClass()
+                    .getName());
+        }
+        header.flush();
+        this.objectMapper.writeValue(out, body);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] payload) throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(payload));
+        var kind = in.readByte();
+        var typeName = in.readUTF();
+        return switch (kind) {
+            case PAGE -> {
+                var number = in.readInt();
+                var size = in.readInt();
+                var total = in.readLong();
+                List<?> content = read(payload, in, listType(typeName));
+                var pageable = number < 0
+                        ? Pageable.unpaged()
+                        : PageRequest.of(number, size);
+                yield new PageImpl<>(content, pageable, total);
+            }
+            case LIST -> read(payload, in, listType(typeName));
+            case OBJECT -> read(payload, in, this.objectMapper.constructType(type(typeName)));
+            default -> throw new IOException("Unknown cached value kind " + kind);
+        };
+    }
+
+    private <T> T read(byte[] payload,
+                       DataInputStream in,
+                       JavaType type) throws IOException {
+        var offset = payload.length - in.available();
+        return this.objectMapper.readValue(payload, offset, payload.length - offset, type);
+    }
+
+    /** The type of the first element; cached lists hold a single DTO type */
+    private static String elementType(List<?> list) {
+        return list.isEmpty() || list.getFirst() == null
+                ? ""
+                : list.getFirst()
+                        .getClass()
+                        .getName();
+    }
+
+    private JavaType listType(String elementType) {
+        var element = elementType.isEmpty()
+                ? Object.class
+                : type(elementType);
+        return this.objectMapper.getTypeFactory()
+                .constructCollectionType(ArrayList.class, element);
+    }
+
+    private Class<?> type(String name) {
+        if (!name.startsWith(READABLE_PACKAGE)) {
+            throw new IllegalArgumentException("Cached type " + name + " is not readable");
+        }
+        return this.types.computeIfAbsent(name, _ -> ClassUtils.resolveClassName(name, JsonCacheValueCodec.class
+                .getClassLoader()));
+    }
+
+}
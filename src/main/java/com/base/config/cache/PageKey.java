@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+/**
+ * Cache key of a list or search page. {@link CustomCaffeineCache} and {@link CustomRedisCache} store page keys under
+ * the cache's current {@link CacheGeneration}, so any write to the cache retires every cached page while by-id
+ * entries are evicted one key at a time.
+ *
+ * @author YISivlay
+ */
+public record PageKey(Integer page,
+                      Integer size,
+                      String search,
+                      String scope) {
+
+    /** Evict key for writes that only invalidate pages, such as creates */
+    public static final PageKey ALL = new PageKey(null, null, null, null);
+
+    public static PageKey of(Integer page,
+                             Integer size,
+                             String search) {
+        return new PageKey(page, size, search, null);
+    }
+
+    /** Key of a page whose rows depend on the caller, such as the users an admin may see */
+    public static PageKey of(Integer page,
+                             Integer size,
+                             String search,
+                             String scope) {
+        return new PageKey(page, size, search, scope);
+    }
+
+    @Override
+    public String toString() {
+        return scope == null
+                ? page + "-" + size + "-" + search
+                : page + "-" + size + "-" + search + "-" + scope;
+    }
+
+}
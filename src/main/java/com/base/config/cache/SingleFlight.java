@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+/**
+ * Coalesces concurrent loads of one key into a single call of its loader, so a burst of misses after an eviction runs
+ * the query once per node while the other callers wait for its result.
+ * <p>
+ * Refresh-ahead reloads run on virtual threads through the same loads. At most {@link #MAX_CONCURRENT_REFRESHES} run
+ * at once across all caches so background reloads cannot take over the connection pool; a refresh that finds no
+ * permit is skipped and retried by a later hit. Loaders run without the caller's request, security context or JPA
+ * session, so refresh is only enabled for caches whose loaders do not depend on them.
+ *
+ * @author YISivlay
+ */
+public final class SingleFlight {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private static final int MAX_CONCURRENT_REFRESHES = 4;
+    private static final Semaphore refreshPermits = new Semaphore(MAX_CONCURRENT_REFRESHES);
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Returns the result of {@code loader}, or of the load of {@code key} already in flight.
+     *
+     * @throws Cache.ValueRetrievalException if the load failed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(Object key,
+                      Callable<T> loader) {
+        var call = new CompletableFuture<Object>();
+        var running = this.inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                throw retrievalException(key, loader, e.getCause());
+            }
+        }
+        try {
+            var value = loader.call();
+            call.complete(value);
+            return value;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw retrievalException(key, loader, e);
+        } finally {
+            this.inFlight.remove(key, call);
+        }
+    }
+
+    /** Reloads {@code key} in the background and hands the result to {@code store}, unless it is already reloading */
+    public <T> void refresh(Object key,
+                            Callable<T> loader,
+                            Consumer<? super T> store) {
+        if (!this.refreshing.add(key)) {
+            return;
+        }
+        if (!refreshPermits.tryAcquire()) {
+            this.refreshing.remove(key);
+            return;
+        }
+        Thread.ofVirtual()
+                .name("cache-refresh")
+                .start(() -> {
+                    try {
+                        store.accept(load(key, loader));
+                    } catch (RuntimeException e) {
+                        logger.warn("Refresh-ahead of {} failed, keeping the cached value", key, e);
+                    } finally {
+                        this.refreshing.remove(key);
+                        refreshPermits.release();
+                    }
+                });
+    }
+
+    private static Cache.ValueRetrievalException retrievalException(Object key,
+                                                                    Callable<?> loader,
+                                                                    Throwable cause) {
+        return cause instanceof Cache.ValueRetrievalException retrieval
+                ? retrieval
+                : new Cache.ValueRetrievalException(key, loader, cause);
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+/**
+ * A per-node {@link CustomCaffeineCache} (L1) in front of the shared {@link CustomRedisCache} (L2). Reads try L1
+ * first and fill it from L2; evictions and clears apply to both tiers and are broadcast by
+ * {@link TwoTierCacheManager} so the L1 of every other node drops the same entries.
+ *
+ * @author YISivlay
+ */
+public class TwoTierCache implements BatchEvictableCache {
+
+    private final CustomCaffeineCache nearCache;
+    private final CustomRedisCache remoteCache;
+    private final TwoTierCacheManager cacheManager;
+
+    TwoTierCache(CustomCaffeineCache nearCache,
+                 CustomRedisCache remoteCache,
+                 TwoTierCacheManager cacheManager) {
+        this.nearCache = nearCache;
+        this.remoteCache = remoteCache;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return this.remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        var nearKey = nearKey(key);
+        var value = this.nearCache.get(nearKey);
+        if (value == null) {
+            value = this.remoteCache.get(key);
+            if (value != null) {
+                this.nearCache.put(nearKey, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key,
+                     Class<T> type) {
+        var nearKey = nearKey(key);
+        var value = this.nearCache.get(nearKey, type);
+        if (value == null) {
+            value = this.remoteCache.get(key, type);
+            if (value != null) {
+                this.nearCache.put(nearKey, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key,
+                     Callable<T> valueLoader) {
+        try {
+            return this.nearCache.get(nearKey(key), () -> this.remoteCache.get(key, valueLoader));
+        } catch (ValueRetrievalException e) {
+            // L1 wraps the failure L2 already wrapped; callers unwrap one level to get the loader's exception
+            if (e.getCause() instanceof ValueRetrievalException remote) {
+                throw remote;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key,
+                    Object value) {
+        this.remoteCache.put(key, value);
+        this.nearCache.put(nearKey(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key,
+                                    Object value) {
+        var existing = this.remoteCache.putIfAbsent(key, value);
+        this.nearCache.put(nearKey(key), existing == null
+                ? value
+                : existing.get());
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (!CacheEvictionBatch.defer(this, key)) {
+            this.remoteCache.evict(key);
+            this.nearCache.evict(nearKey(key));
+            this.cacheManager.publishEvict(getName(), key);
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<Object> keys) {
+        this.remoteCache.evictAll(keys);
+        this.nearCache.evictAll(keys.stream()
+                .map(TwoTierCache::nearKey)
+                .toList());
+        this.cacheManager.publishEvictAll(getName(), keys);
+    }
+
+    @Override
+    public void clear() {
+        if (!CacheEvictionBatch.defer(this)) {
+            this.remoteCache.clear();
+            this.nearCache.clear();
+            this.cacheManager.publishClear(getName());
+        }
+    }
+
+    /** Applies an eviction received from another node to L1 and to pending L2 refreshes */
+    void evictNear(Object key) {
+        this.nearCache.evict(nearKey(key));
+        this.remoteCache.forgetWrite(key);
+    }
+
+    /** Applies the evictions of a batch received from another node, retiring L1 pages once */
+    void evictNearAll(Collection<Object> keys) {
+        this.nearCache.evictAll(keys.stream()
+                .map(TwoTierCache::nearKey)
+                .toList());
+        keys.forEach(this.remoteCache::forgetWrite);
+    }
+
+    void clearNear() {
+        this.nearCache.clear();
+        this.remoteCache.forgetWrites();
+    }
+
+    public CustomCaffeineCache getNearCache() {
+        return nearCache;
+    }
+
+    public CustomRedisCache getRemoteCache() {
+        return remoteCache;
+    }
+
+    /** Ids arrive as {@code Long} locally and as text from other nodes, so L1 keys them by their string form */
+    private static Object nearKey(Object key) {
+        return key instanceof PageKey
+                ? key
+                : String.valueOf(key);
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import com.base.core.command.service.CommandMetrics;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Serves {@link TwoTierCache}s built from a Caffeine cache per node, sized by {@link CacheSpec}, over the caches of a
+ * {@link CustomRedisCacheManager}. Evictions and clears are published on {@value #CHANNEL}; every other node applies
+ * them to its own L1. The L1 TTL bounds staleness if a message is lost.
+ *
+ * @author YISivlay
+ */
+public class TwoTierCacheManager implements CacheManager, InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    static final String CHANNEL = "cache-invalidation";
+    private static final char SEPARATOR = '|';
+    private static final String EVICT = "E";
+    private static final String EVICT_PAGES = "P";
+    private static final String EVICT_ALL = "A";
+    private static final String KEY_SEPARATOR = "\n";
+    private static final String CLEAR = "C";
+
+    private final String nodeId = UUID.randomUUID()
+            .toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    private final CustomRedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final CommandMetrics commandMetrics;
+    private final Environment environment;
+    private final Weigher<Object, Object> weigher;
+    private final Duration nearTtl;
+
+    public TwoTierCacheManager(CustomRedisCacheManager remoteCacheManager,
+                               RedisConnectionFactory connectionFactory,
+                               StringRedisTemplate redisTemplate,
+                               CommandMetrics commandMetrics,
+                               Environment environment,
+                               Weigher<Object, Object> weigher,
+                               Duration nearTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.commandMetrics = commandMetrics;
+        this.environment = environment;
+        this.weigher = weigher;
+        this.nearTtl = nearTtl;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.remoteCacheManager.afterPropertiesSet();
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.listenerContainer.destroy();
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return this.caches.computeIfAbsent(name, _ -> {
+            if (!(this.remoteCacheManager.getCache(name) instanceof CustomRedisCache remoteCache)) {
+                return null;
+            }
+            var nearSpec = CacheSpec.of(this.environment, name)
+                    .near(this.nearTtl);
+            var nearCache = new CustomCaffeineCache(name, nearSpec, this.weigher, this.commandMetrics);
+            return new TwoTierCache(nearCache, remoteCache, this);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.remoteCacheManager.getCacheNames();
+    }
+
+    void publishEvict(String cacheName,
+                      Object key) {
+        if (key instanceof PageKey) {
+            publish(EVICT_PAGES, cacheName, "");
+        } else {
+            publish(EVICT, cacheName, String.valueOf(key));
+        }
+    }
+
+    /** Publishes the keyed evictions of a batch as one message, which also retires pages */
+    void publishEvictAll(String cacheName,
+                         Collection<Object> keys) {
+        publish(EVICT_ALL, cacheName, String.join(KEY_SEPARATOR, keys.stream()
+                .map(String::valueOf)
+                .toList()));
+    }
+
+    void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    private void publish(String operation,
+                         String cacheName,
+                         String key) {
+        try {
+            this.redisTemplate.convertAndSend(CHANNEL, operation + SEPARATOR + this.nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not publish {} invalidation for cache [{}]; other nodes rely on their near cache TTL", operation, cacheName, e);
+        }
+    }
+
+    private void onMessage(Message message,
+                           byte[] pattern) {
+        var parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 4);
+        if (parts.length < 4 || this.nodeId.equals(parts[1])) {
+            return;
+        }
+        var cache = this.caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        switch (parts[0]) {
+            case EVICT -> cache.evictNear(parts[3]);
+            case EVICT_PAGES -> cache.evictNear(PageKey.ALL);
+            case EVICT_ALL -> cache.evictNearAll(parts[3].isEmpty()
+                    ? List.of()
+                    : List.of((Object[]) parts[3].split(KEY_SEPARATOR)));
+            case CLEAR -> cache.clearNear();
+            default -> LOGGER.debug("Ignoring unknown cache invalidation [{}]", parts[0]);
+        }
+    }
+
+}
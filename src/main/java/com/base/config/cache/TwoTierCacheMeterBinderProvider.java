@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds both tiers of a {@link TwoTierCache} to the {@code cache.*} meters, tagged {@code tier=near} and
+ * {@code tier=remote}. Plain Caffeine and Redis caches are bound by Spring Boot's own providers.
+ *
+ * @author YISivlay
+ */
+@Component
+public class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(TwoTierCache cache,
+                                      Iterable<Tag> tags) {
+        var near = new CaffeineCacheMetrics<>(cache.getNearCache()
+                .getNativeCache(), cache.getName(), Tags.concat(tags, "tier", "near"));
+        var remote = new RedisCacheMetrics(cache.getRemoteCache(), Tags.concat(tags, "tier", "remote"));
+        return registry -> {
+            near.bindTo(registry);
+            remote.bindTo(registry);
+        };
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Redis value serializer that frames each payload as {@code [codec version][flags][payload]} and deflates payloads of
+ * at least the compression threshold, prefixed by their original length.
+ * <p>
+ * Values are written by the first codec and read by whichever codec's version leads them. Entries from an unknown
+ * codec, or that no longer decode, read as a miss and are reloaded, so codecs roll without flushing Redis. Entries
+ * written before framing start with JSON text and are read by {@link GenericJackson2JsonRedisSerializer}.
+ *
+ * @author YISivlay
+ */
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(VersionedRedisSerializer.class);
+
+    private static final int HEADER_LENGTH = 2;
+    private static final byte COMPRESSED = 1;
+    /** Versions stay below printable ASCII so they cannot be mistaken for the JSON of an unframed entry */
+    private static final int MAX_VERSION = 0x1F;
+
+    private final CacheValueCodec writer;
+    private final Map<Byte, CacheValueCodec> readers = new HashMap<>();
+    private final int compressionThreshold;
+    private final GenericJackson2JsonRedisSerializer unframed = new GenericJackson2JsonRedisSerializer();
+
+    public VersionedRedisSerializer(DataSize compressionThreshold,
+                                    CacheValueCodec writer,
+                                    CacheValueCodec... readers) {
+        this.writer = writer;
+        this.compressionThreshold = (int) Math.min(Integer.MAX_VALUE, compressionThreshold.toBytes());
+        register(writer);
+        for (var reader : readers) {
+            register(reader);
+        }
+    }
+
+    private void register(CacheValueCodec codec) {
+        if (codec.version() < 1 || codec.version() > MAX_VERSION) {
+            throw new IllegalArgumentException("Codec version must be between 1 and " + MAX_VERSION + ": " + codec.version());
+        }
+        if (this.readers.putIfAbsent(codec.version(), codec) != null) {
+            throw new IllegalArgumentException("Codec version " + codec.version() + " is registered twice");
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] payload;
+        try {
+            payload = this.writer.encode(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not encode " + value.getClass()
+                    .getName(), e);
+        }
+        byte flags = 0;
+        if (payload.length >= this.compressionThreshold) {
+            var compressed = deflate(payload);
+            if (compressed.length < payload.length) {
+                payload = compressed;
+                flags |= COMPRESSED;
+            }
+        }
+        var framed = new byte[HEADER_LENGTH + payload.length];
+        framed[0] = this.writer.version();
+        framed[1] = flags;
+        System.arraycopy(payload, 0, framed, HEADER_LENGTH, payload.length);
+        return framed;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] > MAX_VERSION) {
+            try {
+                return this.unframed.deserialize(bytes);
+            } catch (SerializationException e) {
+                logger.warn("Unframed cached value no longer decodes, treating it as a miss", e);
+                return null;
+            }
+        }
+        var codec = this.readers.get(bytes[0]);
+        if (codec == null || bytes.length < HEADER_LENGTH) {
+            logger.debug("Skipping cached value of unknown codec version {}", bytes[0]);
+            return null;
+        }
+        try {
+            var payload = (bytes[1] & COMPRESSED) != 0
+                    ? inflate(bytes)
+                    : Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+            return codec.decode(payload);
+        } catch (IOException | DataFormatException | RuntimeException e) {
+            logger.warn("Cached value of codec version {} no longer decodes, treating it as a miss", bytes[0], e);
+            return null;
+        }
+    }
+
+    /** {@code [original length][deflated bytes]} */
+    private static byte[] deflate(byte[] payload) {
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            var out = new ByteArrayOutputStream(payload.length / 2 + Integer.BYTES);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES)
+                    .putInt(payload.length)
+                    .array());
+            var buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] framed) throws DataFormatException {
+        var offset = HEADER_LENGTH + Integer.BYTES;
+        var payload = new byte[ByteBuffer.wrap(framed, HEADER_LENGTH, Integer.BYTES)
+                .getInt()];
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(framed, offset, framed.length - offset);
+            var length = 0;
+            while (length < payload.length && !inflater.finished()) {
+                var read = inflater.inflate(payload, length, payload.length - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed cache value");
+                }
+                length += read;
+            }
+            return payload;
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
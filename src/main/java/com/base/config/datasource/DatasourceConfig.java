@@ -68,6 +68,9 @@ public class DatasourceConfig {
     @Value("${spring.jpa.properties.hibernate.format_sql:true}")
     private String formatSql;
 
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private String jdbcBatchSize;
+
     @Bean
     public DataSource dataSource() {
 
@@ -91,6 +94,8 @@ public class DatasourceConfig {
             config.addDataSourceProperty("prepStmtCacheSize", "250");
             config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
             config.addDataSourceProperty("socketTimeout", "30");
+            // rewrites JDBC insert batches, such as the audit log outbox, into multi-row inserts
+            config.addDataSourceProperty("reWriteBatchedInserts", "true");
         }
 
         if (config.getDriverClassName()
@@ -135,6 +140,10 @@ public class DatasourceConfig {
         properties.setProperty("hibernate.hbm2ddl.auto", hibernateDdlAuto);
         properties.setProperty("hibernate.show_sql", showSql);
         properties.setProperty("hibernate.format_sql", formatSql);
+        // Batches updates and deletes. Inserts are not batched: Hibernate needs each IDENTITY id back from its own insert
+        properties.setProperty("hibernate.jdbc.batch_size", jdbcBatchSize);
+        properties.setProperty("hibernate.order_inserts", "true");
+        properties.setProperty("hibernate.order_updates", "true");
         return properties;
     }
 
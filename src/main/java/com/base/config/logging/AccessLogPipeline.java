@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.logging;
+
+import com.base.config.data.RequestLog;
+import com.base.config.serialization.ToApiJsonSerializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Asynchronous access-log stage. The request thread only copies fixed fields into a preallocated slot of a bounded ring;
+ * a single background consumer builds the {@link RequestLog}, serializes it and writes it, then returns the slot to the
+ * ring.
+ * <p>
+ * When every slot is in use, {@link OverflowPolicy#DROP} discards the entry (counted as {@code access.log.dropped}) and
+ * {@link OverflowPolicy#BLOCK} makes the request thread wait for a free slot.
+ *
+ * @author YISivlay
+ */
+@Component
+public class AccessLogPipeline implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogPipeline.class);
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private final ToApiJsonSerializer<Object> toApiJsonSerializer;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<Slot> free;
+    private final BlockingQueue<Slot> ready;
+    private final Counter dropped;
+    private volatile Thread consumer;
+    private volatile boolean running;
+
+    @Autowired
+    public AccessLogPipeline(final ToApiJsonSerializer<Object> toApiJsonSerializer,
+                             final MeterRegistry meterRegistry,
+                             @Value("${access-log.buffer-size:8192}") final int bufferSize,
+                             @Value("${access-log.overflow-policy:DROP}") final OverflowPolicy overflowPolicy) {
+        this.toApiJsonSerializer = toApiJsonSerializer;
+        this.overflowPolicy = overflowPolicy;
+        this.free = new ArrayBlockingQueue<>(bufferSize);
+        this.ready = new ArrayBlockingQueue<>(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            this.free.add(new Slot());
+        }
+        this.dropped = Counter.builder("access.log.dropped")
+                .description("Access-log entries dropped because the ring buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records one request. Called on the request thread; performs no serialization or I/O.
+     */
+    public void record(HttpServletRequest request,
+                       long startMillis,
+                       long stopMillis) {
+        var slot = claim();
+        if (slot == null) {
+            this.dropped.increment();
+            return;
+        }
+        slot.fill(request, startMillis, stopMillis);
+        this.ready.add(slot);
+    }
+
+    private Slot claim() {
+        if (this.overflowPolicy == OverflowPolicy.DROP) {
+            return this.free.poll();
+        }
+        try {
+            return this.free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            return null;
+        }
+    }
+
+    private void consume() {
+        while (this.running || !this.ready.isEmpty()) {
+            try {
+                var slot = this.ready.poll(500, TimeUnit.MILLISECONDS);
+                if (slot != null) {
+                    write(slot);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                        .interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(Slot slot) {
+        try {
+            var log = RequestLog.builder()
+                    .startTime(slot.startMillis)
+                    .stopTime(slot.stopMillis)
+                    .method(slot.method)
+                    .url(slot.url())
+                    .parameters(slot.parameters())
+                    .build();
+            LOGGER.info(this.toApiJsonSerializer.serialize(log));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to write access log entry", e);
+        } finally {
+            slot.clear();
+            this.free.add(slot);
+        }
+    }
+
+    @Override
+    public void start() {
+        this.running = true;
+        this.consumer = Thread.ofPlatform()
+                .name("access-log")
+                .daemon(true)
+                .start(this::consume);
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+        var thread = this.consumer;
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                        .interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Reusable holder for one request's fields. Parameter arrays grow to the largest request seen and are then reused,
+     * so steady-state recording allocates nothing.
+     */
+    private static final class Slot {
+
+        private long startMillis;
+        private long stopMillis;
+        private String method;
+        private String scheme;
+        private String host;
+        private int port;
+        private String uri;
+        private String[] names = new String[8];
+        private String[][] values = new String[8][];
+        private int size;
+
+        void fill(HttpServletRequest request,
+                  long startMillis,
+                  long stopMillis) {
+            this.startMillis = startMillis;
+            this.stopMillis = stopMillis;
+            this.method = request.getMethod();
+            this.scheme = request.getScheme();
+            this.host = request.getServerName();
+            this.port = request.getServerPort();
+            this.uri = request.getRequestURI();
+            for (var parameter : request.getParameterMap()
+                    .entrySet()) {
+                var name = parameter.getKey();
+                if ("password".equals(name) || "_".equals(name)) {
+                    continue;
+                }
+                if (this.size == this.names.length) {
+                    this.names = Arrays.copyOf(this.names, this.size * 2);
+                    this.values = Arrays.copyOf(this.values, this.size * 2);
+                }
+                this.names[this.size] = name;
+                this.values[this.size] = parameter.getValue();
+                this.size++;
+            }
+        }
+
+        String url() {
+            var defaultPort = ("http".equals(this.scheme) && this.port == 80) || ("https".equals(this.scheme) && this.port == 443);
+            return defaultPort
+                    ? this.scheme + "://" + this.host + this.uri
+                    : this.scheme + "://" + this.host + ":" + this.port + this.uri;
+        }
+
+        Map<String, String[]> parameters() {
+            Map<String, String[]> parameters = new LinkedHashMap<>(this.size * 2);
+            for (int i = 0; i < this.size; i++) {
+                parameters.put(this.names[i], this.values[i]);
+            }
+            return parameters;
+        }
+
+        void clear() {
+            Arrays.fill(this.names, 0, this.size, null);
+            Arrays.fill(this.values, 0, this.size, null);
+            this.size = 0;
+            this.method = null;
+            this.scheme = null;
+            this.host = null;
+            this.uri = null;
+        }
+
+    }
+
+}
@@ -17,6 +17,8 @@ package com.base.config.security;
 
 
 import com.base.config.GlobalConfig;
+import com.base.config.security.service.CachingClientRegistrationRepository;
+import com.base.config.security.service.CachingRegisteredClientRepository;
 import com.base.config.security.service.JdbcClientRegistrationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -52,6 +54,9 @@ public class ClientConfig {
     @Value("${spring.security.oauth2.issuer-uri:https://localhost:8443/api}")
     private String issuerUri;
 
+    @Value("${security.client-cache.ttl:10m}")
+    private Duration clientCacheTtl;
+
     private final GlobalConfig config;
     private final PasswordEncoder passwordEncoder;
     private final JdbcClientRegistrationRepository jdbcClientRegistrationRepository;
@@ -330,7 +335,7 @@ public class ClientConfig {
     @Bean
     @Primary
     public RegisteredClientRepository registeredClientRepository(JdbcTemplate jdbcTemplate) {
-        var repository = new JdbcRegisteredClientRepository(jdbcTemplate);
+        var repository = new CachingRegisteredClientRepository(new JdbcRegisteredClientRepository(jdbcTemplate), clientCacheTtl);
         try {
             Stream.of(webAppClient(), apiDevelopmentClient(), tokenExchangeClient(), serviceM2MClient(), microserviceClient(), deviceClient())
                     .forEach(client -> {
@@ -347,21 +352,22 @@ public class ClientConfig {
     @Bean
     @Primary
     public ClientRegistrationRepository clientRegistrationRepository() {
-        if (jdbcClientRegistrationRepository.findByRegistrationId("github") == null) {
+        var repository = new CachingClientRegistrationRepository(jdbcClientRegistrationRepository, clientCacheTtl);
+        if (repository.findByRegistrationId("github") == null) {
             if (githubClientRegistration() != null) {
-                jdbcClientRegistrationRepository.save(githubClientRegistration());
+                repository.save(githubClientRegistration());
             }
         }
-        if (jdbcClientRegistrationRepository.findByRegistrationId("google") == null) {
+        if (repository.findByRegistrationId("google") == null) {
             if (googleClientRegistration() != null) {
-                jdbcClientRegistrationRepository.save(googleClientRegistration());
+                repository.save(googleClientRegistration());
             }
         }
-        if (jdbcClientRegistrationRepository.findByRegistrationId("facebook") == null) {
+        if (repository.findByRegistrationId("facebook") == null) {
             if (facebookClientRegistration() != null) {
-                jdbcClientRegistrationRepository.save(facebookClientRegistration());
+                repository.save(facebookClientRegistration());
             }
         }
-        return jdbcClientRegistrationRepository;
+        return repository;
     }
 }
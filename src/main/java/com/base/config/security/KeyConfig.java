@@ -17,11 +17,10 @@ package com.base.config.security;
 
 import com.base.config.GlobalConfig;
 import com.base.config.security.keypairs.Keys;
-import com.base.config.security.keypairs.RSAKeyPairService;
+import com.base.config.security.keypairs.RSAKeyRing;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 import java.sql.Timestamp;
-import java.util.Comparator;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,18 +76,17 @@ public class KeyConfig {
     }
 
     @Bean
-    public ApplicationListener<ApplicationReadyEvent> rsaKeyRotationAutomatic(RSAKeyPairService repository) {
+    public ApplicationListener<ApplicationReadyEvent> rsaKeyRotationAutomatic(RSAKeyRing keyRing,
+                                                                             Keys keys) {
         return _ -> {
-            var existingKey = repository.findKeyPairs()
-                    .stream()
-                    .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created));
+            var existingKey = keyRing.current();
 
-            if (existingKey.isEmpty()) {
-                var keys = new Keys();
+            if (existingKey.isEmpty() || existingKey.get()
+                    .algorithm() != keys.algorithm()) {
                 var keyPair = keys.generateKeyPair(UUID.randomUUID()
                         .toString(), new Timestamp(System.currentTimeMillis()));
-                repository.save(keyPair);
-                logger.info("Initial RSA Key created at startup");
+                keyRing.save(keyPair);
+                logger.info("Initial {} signing key created at startup", keys.algorithm());
             }
         };
     }
@@ -20,7 +20,7 @@ import com.base.config.security.converter.CustomJwtAuthenticationConverter;
 import com.base.config.security.data.ClientAssertionJwtDecoderFactory;
 import com.base.config.security.filter.HttpAuthenticationFilter;
 import com.base.config.security.filter.JwtAuthenticationFilter;
-import com.base.config.security.keypairs.RSAKeyPairService;
+import com.base.config.security.keypairs.RSAKeyRing;
 import com.base.config.security.provider.JwtAuthenticationProvider;
 import com.base.config.security.provider.JwtBearerAuthenticationProvider;
 import com.base.config.security.service.*;
@@ -28,10 +28,12 @@ import com.base.core.authentication.user.model.User;
 import com.base.core.authentication.user.service.CustomUserDetailsService;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.Module;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
 
 import org.hibernate.collection.spi.PersistentSet;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
@@ -39,6 +41,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -50,7 +53,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistry;
-import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.jackson2.SecurityJackson2Modules;
 import org.springframework.security.oauth2.client.JdbcOAuth2AuthorizedClientService;
@@ -100,6 +102,15 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.issuer-uri:https://localhost:8443/api}")
     private String issuerUri;
 
+    @Value("${spring.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${security.authorization-cache.ttl:5m}")
+    private Duration authorizationCacheTtl;
+
+    @Value("${security.authorization-cache.maximum-size:10000}")
+    private long authorizationCacheMaximumSize;
+
     private final MessageSource messageSource;
     private final CustomUserDetailsService userDetailsService;
     private final UserInfoService userInfoService;
@@ -115,6 +126,8 @@ public class SecurityConfig {
     private final ClientRegistrationRepository clientRegistrationRepository;
     private final OAuth2UserServiceImpl oauth2UserService;
     private final OidcUserServiceImpl oidcUserService;
+    private final ClientSecretVerifier clientSecretVerifier;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
 
     @Autowired
     public SecurityConfig(final MessageSource messageSource,
@@ -131,7 +144,9 @@ public class SecurityConfig {
                           final HttpAuthenticationFilter httpAuthenticationFilter,
                           final ClientRegistrationRepository clientRegistrationRepository,
                           final OAuth2UserServiceImpl oauth2UserService,
-                          final OidcUserServiceImpl oidcUserService) {
+                          final OidcUserServiceImpl oidcUserService,
+                          final ClientSecretVerifier clientSecretVerifier,
+                          final ObjectProvider<StringRedisTemplate> redisTemplate) {
         this.messageSource = messageSource;
         this.userDetailsService = userDetailsService;
         this.userInfoService = userInfoService;
@@ -147,6 +162,8 @@ public class SecurityConfig {
         this.clientRegistrationRepository = clientRegistrationRepository;
         this.oauth2UserService = oauth2UserService;
         this.oidcUserService = oidcUserService;
+        this.clientSecretVerifier = clientSecretVerifier;
+        this.redisTemplate = redisTemplate;
     }
 
     /**
@@ -167,7 +184,11 @@ public class SecurityConfig {
         var configurer = OAuth2AuthorizationServerConfigurer.authorizationServer();
         http.with(configurer, (authorizationServer) -> authorizationServer.oidc((oidc) -> oidc.userInfoEndpoint((userInfo) -> userInfo
                 .userInfoMapper(userInfoMapper)))
-                .clientAuthentication(Customizer.withDefaults())
+                .clientAuthentication(clientAuthentication -> clientAuthentication.authenticationProviders(providers -> providers.forEach(provider -> {
+                    if (provider instanceof ClientSecretAuthenticationProvider clientSecretAuthenticationProvider) {
+                        clientSecretAuthenticationProvider.setPasswordEncoder(clientSecretVerifier.asPasswordEncoder());
+                    }
+                })))
                 .tokenEndpoint(tokenEndpoint -> tokenEndpoint
                         // Delegating converter: accept refresh, code, client_credentials, etc.
                         .accessTokenRequestConverter(                                                   //
@@ -275,6 +296,7 @@ public class SecurityConfig {
     /**
      * Default resource server filter chain (web + API)
      * - Permits auth endpoints and static resources
+     * - Restricts actuator endpoints other than health to ROLE_ADMIN
      * - Enables form login and oauth2Login for interactive users
      * - Enables jwt resource server for API endpoints
      *
@@ -295,6 +317,11 @@ public class SecurityConfig {
                         "/error/**",  //
                         "/public/**") //
                 .permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/**")
+                .authenticated()
+                // metrics, prometheus and commands expose internals; only administrators read them
+                .requestMatchers("/actuator/**")
+                .hasRole("ADMIN")
                 .anyRequest()
                 .authenticated())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
@@ -352,8 +379,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationProvider jwtAuthenticationProvider(RSAKeyPairService rsaKeyPairService) {
-        return new JwtAuthenticationProvider(registeredClientRepository, new ClientAssertionJwtDecoderFactory(rsaKeyPairService));
+    public JwtAuthenticationProvider jwtAuthenticationProvider(RSAKeyRing rsaKeyRing) {
+        return new JwtAuthenticationProvider(registeredClientRepository, new ClientAssertionJwtDecoderFactory(rsaKeyRing));
     }
 
     @Bean
@@ -395,7 +422,10 @@ public class SecurityConfig {
         JdbcOAuth2AuthorizationService authorizationService = new JdbcOAuth2AuthorizationService(jdbcTemplate, registeredClientRepository);
         authorizationService.setAuthorizationRowMapper(rowMapper);
 
-        return authorizationService;
+        var redis = redisEnabled
+                ? redisTemplate.getIfAvailable()
+                : null;
+        return new TieredOAuth2AuthorizationService(authorizationService, authorizationCacheTtl, authorizationCacheMaximumSize, redis);
     }
 
     @Bean
@@ -464,7 +494,7 @@ public class SecurityConfig {
 
     @Bean
     public SessionRegistry sessionRegistry() {
-        return new SessionRegistryImpl();
+        return new UsernameIndexedSessionRegistry();
     }
 
     @Bean
@@ -15,8 +15,11 @@
  */
 package com.base.config.security.data;
 
-import com.base.config.security.keypairs.RSAKeyPairService;
-import java.util.Comparator;
+import com.base.config.security.keypairs.RSAKeyRing;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtDecoderFactory;
@@ -27,23 +30,25 @@ import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
  */
 public class ClientAssertionJwtDecoderFactory implements JwtDecoderFactory<ClientAuthenticationToken> {
 
-    private final RSAKeyPairService rsaKeyPairService;
+    private final RSAKeyRing rsaKeyRing;
 
-    public ClientAssertionJwtDecoderFactory(RSAKeyPairService rsaKeyPairService) {
-        this.rsaKeyPairService = rsaKeyPairService;
+    public ClientAssertionJwtDecoderFactory(RSAKeyRing rsaKeyRing) {
+        this.rsaKeyRing = rsaKeyRing;
     }
 
     @Override
     public JwtDecoder createDecoder(ClientAuthenticationToken context) {
 
-        var key = rsaKeyPairService.findKeyPairs()
-                .stream()
-                .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created))
-                .map(RSAKeyPairService.RSAKeyPair::publicKey)
+        var keyPair = rsaKeyRing.current()
                 .orElseThrow(() -> new OAuth2AuthenticationException("No key found"));
 
-        return NimbusJwtDecoder.withPublicKey(key)
-                .build();
+        var jwtProcessor = new DefaultJWTProcessor<SecurityContext>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(keyPair.algorithm()
+                .jwsAlgorithm(), new ImmutableJWKSet<>(rsaKeyRing.currentJwkSet())));
+        // claims are validated by the decoder's OAuth2TokenValidator, as NimbusJwtDecoder.withPublicKey does
+        jwtProcessor.setJWTClaimsSetVerifier((_, _) -> {
+        });
+        return new NimbusJwtDecoder(jwtProcessor);
     }
 
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.data;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+
+/**
+ * A bearer token whose signature has already been verified. Created once per request and handed to validation, so the
+ * claims are never re-parsed.
+ *
+ * @author YISivlay
+ */
+public record VerifiedToken(String subject, Date expiration, Claims claims) {
+
+    public static VerifiedToken of(Claims claims) {
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration(), claims);
+    }
+
+    public boolean isExpired(Date now) {
+        return expiration != null && expiration.before(now);
+    }
+
+}
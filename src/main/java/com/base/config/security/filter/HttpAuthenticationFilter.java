@@ -15,7 +15,8 @@
  */
 package com.base.config.security.filter;
 
-import com.base.config.data.RequestLog;
+import com.base.config.logging.AccessLogPipeline;
+import com.base.config.security.service.ClientSecretVerifier;
 import com.base.config.serialization.ToApiJsonSerializer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
@@ -24,17 +25,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.time.StopWatch;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
@@ -49,30 +45,30 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class HttpAuthenticationFilter extends OncePerRequestFilter {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(HttpAuthenticationFilter.class);
-
     private static final String TENANT_HEADER = "Tenant-Type";
     private static final String EXPECTED_TENANT = "iSLDevs";
     private static final String TOKEN_ENDPOINT = "/api/oauth2/token";
     private final ToApiJsonSerializer<Object> toApiJsonSerializer;
-    private final PasswordEncoder passwordEncoder;
+    private final ClientSecretVerifier clientSecretVerifier;
     private final RegisteredClientRepository registeredClientRepository;
+    private final AccessLogPipeline accessLogPipeline;
 
     @Autowired
     public HttpAuthenticationFilter(final ToApiJsonSerializer<Object> toApiJsonSerializer,
-                                    final PasswordEncoder passwordEncoder,
-                                    final RegisteredClientRepository registeredClientRepository) {
+                                    final ClientSecretVerifier clientSecretVerifier,
+                                    final RegisteredClientRepository registeredClientRepository,
+                                    final AccessLogPipeline accessLogPipeline) {
         this.toApiJsonSerializer = toApiJsonSerializer;
-        this.passwordEncoder = passwordEncoder;
+        this.clientSecretVerifier = clientSecretVerifier;
         this.registeredClientRepository = registeredClientRepository;
+        this.accessLogPipeline = accessLogPipeline;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws IOException {
-        var stopWatch = new StopWatch();
-        stopWatch.start();
+        var startMillis = System.currentTimeMillis();
         try {
             if ("POST".equals(request.getMethod()) && request.getRequestURL()
                     .toString()
@@ -126,7 +122,7 @@ public class HttpAuthenticationFilter extends OncePerRequestFilter {
                             throw new OAuth2AuthenticationException(new OAuth2Error(OAuth2ErrorCodes.INVALID_REQUEST), "Invalid Basic authorization format");
                         }
                         final var clientSecret = parts[1];
-                        if (!passwordEncoder.matches(clientSecret, registeredClient.getClientSecret())) {
+                        if (!clientSecretVerifier.matches(clientSecret, registeredClient.getClientSecret())) {
                             throw new OAuth2AuthenticationException(new OAuth2Error(OAuth2ErrorCodes.INVALID_CLIENT), "Invalid client credentials");
                         }
                     }
@@ -152,18 +148,7 @@ public class HttpAuthenticationFilter extends OncePerRequestFilter {
             response.getWriter()
                     .write(toApiJsonSerializer.serialize(errorResponse));
         } finally {
-            stopWatch.stop();
-            var log = RequestLog.builder()
-                    .startTime(stopWatch.getStartInstant()
-                            .getEpochSecond())
-                    .stopTime(stopWatch.getStopInstant()
-                            .getEpochSecond())
-                    .method(request.getMethod())
-                    .url(request.getRequestURL()
-                            .toString())
-                    .parameters(parameters(request))
-                    .build();
-            LOGGER.info(this.toApiJsonSerializer.serialize(log));
+            accessLogPipeline.record(request, startMillis, System.currentTimeMillis());
         }
     }
 
@@ -180,11 +165,4 @@ public class HttpAuthenticationFilter extends OncePerRequestFilter {
         response.setHeader("Expires", "0");
     }
 
-    private Map<String, String[]> parameters(HttpServletRequest request) {
-        final var parameters = new HashMap<>(request.getParameterMap());
-        parameters.remove("password");
-        parameters.remove("_");
-        return parameters;
-    }
-
 }
@@ -67,10 +67,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (jwt != null && SecurityContextHolder.getContext()
                     .getAuthentication() == null) {
-                var username = authenticationService.extractUsername(jwt);
+                var verifiedToken = authenticationService.verify(jwt);
+                var username = verifiedToken.subject();
                 if (username != null) {
                     var userDetails = userDetailsService.loadUserByUsername(username);
-                    if (authenticationService.isTokenValid(jwt, userDetails)) {
+                    if (authenticationService.isTokenValid(verifiedToken, userDetails)) {
                         var authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext()
@@ -56,7 +56,7 @@ public class JdbcRSAKeyPairService implements RSAKeyPairService {
     @Override
     public void save(RSAKeyPair keyPair) {
         var sql = """
-                  INSERT INTO rsa_key_pairs (id, private_key, public_key, created) VALUES (?, ?, ?, ?)
+                  INSERT INTO rsa_key_pairs (id, private_key, public_key, created, algorithm) VALUES (?, ?, ?, ?, ?)
                   ON CONFLICT ON CONSTRAINT rsa_key_pairs_id_created_key DO NOTHING
                   """;
         try (var privateBAOS = new ByteArrayOutputStream(); var publicBAOS = new ByteArrayOutputStream()) {
@@ -64,7 +64,8 @@ public class JdbcRSAKeyPairService implements RSAKeyPairService {
             this.rsaPublicKeyConverter.serialize(keyPair.publicKey(), publicBAOS);
             var updated = this.jdbcTemplate.update(sql, keyPair.id(), privateBAOS.toString(StandardCharsets.UTF_8), publicBAOS
                     .toString(StandardCharsets.UTF_8), new Date(keyPair.created()
-                            .getTime()));
+                            .getTime()), keyPair.algorithm()
+                                    .name());
             Assert.state(updated == 0 || updated == 1, "no more than one record should have been updated");
         } catch (IOException e) {
             throw new IllegalArgumentException("there's been an exception", e);
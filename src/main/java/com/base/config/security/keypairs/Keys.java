@@ -15,11 +15,8 @@
  */
 package com.base.config.security.keypairs;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 import java.sql.Timestamp;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -28,22 +25,27 @@ import org.springframework.stereotype.Component;
 @Component
 public class Keys {
 
+    private final SigningAlgorithm algorithm;
+
+    public Keys(@Value("${security.jwt.signing-algorithm:RS256}") final SigningAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /** The configured signing algorithm; new and rotated keys use it. */
+    public SigningAlgorithm algorithm() {
+        return algorithm;
+    }
+
     public RSAKeyPairService.RSAKeyPair generateKeyPair(String keyId,
                                                         Timestamp created) {
-        var keyPair = generateRsaKey();
-        var publicKey = (RSAPublicKey) keyPair.getPublic();
-        var privateKey = (RSAPrivateKey) keyPair.getPrivate();
-        return new RSAKeyPairService.RSAKeyPair(keyId, created, publicKey, privateKey);
+        return generateKeyPair(keyId, created, this.algorithm);
     }
 
-    private KeyPair generateRsaKey() {
-        try {
-            var keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-            keyPairGenerator.initialize(2048);
-            return keyPairGenerator.generateKeyPair();
-        } catch (Exception ex) {
-            throw new IllegalStateException(ex);
-        }
+    public RSAKeyPairService.RSAKeyPair generateKeyPair(String keyId,
+                                                        Timestamp created,
+                                                        SigningAlgorithm algorithm) {
+        var keyPair = algorithm.generateKeyPair();
+        return new RSAKeyPairService.RSAKeyPair(keyId, created, keyPair.getPublic(), keyPair.getPrivate(), algorithm);
     }
 
 }
@@ -18,11 +18,8 @@ package com.base.config.security.keypairs;
 import com.nimbusds.jose.KeySourceException;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSelector;
-import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -32,26 +29,16 @@ import org.springframework.stereotype.Component;
 @Component(value = "customJWKSource")
 public class RSAKeyPairRepositoryJWKSource implements JWKSource<SecurityContext> {
 
-    private final RSAKeyPairService rsaKeyPairService;
+    private final RSAKeyRing rsaKeyRing;
 
-    public RSAKeyPairRepositoryJWKSource(RSAKeyPairService rsaKeyPairService) {
-        this.rsaKeyPairService = rsaKeyPairService;
+    public RSAKeyPairRepositoryJWKSource(RSAKeyRing rsaKeyRing) {
+        this.rsaKeyRing = rsaKeyRing;
     }
 
     @Override
     public List<JWK> get(JWKSelector jwkSelector,
                          SecurityContext securityContext) throws KeySourceException {
-        return rsaKeyPairService.findKeyPairs()
-                .stream()
-                .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created))
-                .map(keyPair -> {
-                    var rsaKey = new RSAKey.Builder(keyPair.publicKey()).privateKey(keyPair.privateKey())
-                            .keyID(keyPair.id())
-                            .algorithm(com.nimbusds.jose.JWSAlgorithm.RS256)
-                            .build();
-                    return jwkSelector.select(new com.nimbusds.jose.jwk.JWKSet(rsaKey));
-                })
-                .orElse(Collections.emptyList());
+        return jwkSelector.select(rsaKeyRing.currentJwkSet());
     }
 
 }
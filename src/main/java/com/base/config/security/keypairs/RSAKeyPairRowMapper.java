@@ -16,8 +16,6 @@
 package com.base.config.security.keypairs;
 
 import java.io.IOException;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,11 +46,12 @@ public class RSAKeyPairRowMapper implements RowMapper<RSAKeyPairService.RSAKeyPa
             var created = rs.getTimestamp("created");
             var privateKeyStr = rs.getString("private_key");
             var publicKeyStr = rs.getString("public_key");
+            var algorithm = SigningAlgorithm.valueOf(rs.getString("algorithm"));
 
-            var privateKey = (RSAPrivateKey) rsaPrivateKeyConverter.convertFromString(privateKeyStr);
-            var publicKey = (RSAPublicKey) rsaPublicKeyConverter.convertFromString(publicKeyStr);
+            var privateKey = rsaPrivateKeyConverter.convertFromString(privateKeyStr, algorithm);
+            var publicKey = rsaPublicKeyConverter.convertFromString(publicKeyStr, algorithm);
 
-            return new RSAKeyPairService.RSAKeyPair(id, created, publicKey, privateKey);
+            return new RSAKeyPairService.RSAKeyPair(id, created, publicKey, privateKey, algorithm);
         } catch (IOException e) {
             throw new RuntimeException("Failed to map RSA key pair", e);
         }
@@ -15,8 +15,8 @@
  */
 package com.base.config.security.keypairs;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.sql.Timestamp;
 import java.util.List;
 
@@ -29,7 +29,10 @@ public interface RSAKeyPairService {
 
     void save(RSAKeyPair rsaKeyPair);
 
-    record RSAKeyPair(String id, Timestamp created, RSAPublicKey publicKey, RSAPrivateKey privateKey) {
+    /**
+     * A signing key pair. Despite the historical name it may hold an RSA or an EC key, as given by {@code algorithm}.
+     */
+    record RSAKeyPair(String id, Timestamp created, PublicKey publicKey, PrivateKey privateKey, SigningAlgorithm algorithm) {
     }
 
 }
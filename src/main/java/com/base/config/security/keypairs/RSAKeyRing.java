@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.keypairs;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory view of {@code rsa_key_pairs}, indexed by {@code kid}.
+ * <p>
+ * Key pairs are decrypted and parsed once per load instead of on every token issue or parse. The ring reloads when a
+ * key is saved through {@link #save(RSAKeyPairService.RSAKeyPair)}, or when a token references a {@code kid} this node
+ * has not seen yet (a key rotated by another node), at most once per {@link #MISS_RELOAD_INTERVAL_MILLIS}.
+ *
+ * @author YISivlay
+ */
+@Component
+public class RSAKeyRing {
+
+    private static final long MISS_RELOAD_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Logger logger = LoggerFactory.getLogger(RSAKeyRing.class);
+
+    private final RSAKeyPairService rsaKeyPairService;
+    private final AtomicLong lastMissReload = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public RSAKeyRing(final RSAKeyPairService rsaKeyPairService) {
+        this.rsaKeyPairService = rsaKeyPairService;
+    }
+
+    /** Returns the newest key pair, used for signing. */
+    public Optional<RSAKeyPairService.RSAKeyPair> current() {
+        return Optional.ofNullable(snapshot().current());
+    }
+
+    /** Returns the key pair with the given {@code kid}, reloading once if this node has not seen it yet. */
+    public Optional<RSAKeyPairService.RSAKeyPair> find(String keyId) {
+        if (keyId == null) {
+            return current();
+        }
+        var keyPair = snapshot().byId()
+                .get(keyId);
+        if (keyPair == null && reloadOnMiss()) {
+            keyPair = snapshot().byId()
+                    .get(keyId);
+        }
+        return Optional.ofNullable(keyPair);
+    }
+
+    /** Returns a {@link JWKSet} holding the current signing key, built once per load. */
+    public JWKSet currentJwkSet() {
+        return snapshot().jwkSet();
+    }
+
+    public boolean isEmpty() {
+        return snapshot().byId()
+                .isEmpty();
+    }
+
+    /** Persists a new key pair and makes it the current signing key on this node. */
+    public void save(RSAKeyPairService.RSAKeyPair keyPair) {
+        this.rsaKeyPairService.save(keyPair);
+        reload();
+    }
+
+    public synchronized void reload() {
+        var keyPairs = this.rsaKeyPairService.findKeyPairs();
+        Map<String, RSAKeyPairService.RSAKeyPair> byId = new LinkedHashMap<>();
+        keyPairs.forEach(keyPair -> byId.put(keyPair.id(), keyPair));
+        var current = keyPairs.stream()
+                .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created))
+                .orElse(null);
+        this.snapshot = new Snapshot(Collections.unmodifiableMap(byId), current, toJwkSet(current));
+        logger.debug("RSA key ring loaded {} key(s), current kid {}", byId.size(), current == null
+                ? null
+                : current.id());
+    }
+
+    private Snapshot snapshot() {
+        var loaded = this.snapshot;
+        if (loaded == null) {
+            synchronized (this) {
+                if (this.snapshot == null) {
+                    reload();
+                }
+                loaded = this.snapshot;
+            }
+        }
+        return loaded;
+    }
+
+    private boolean reloadOnMiss() {
+        var now = System.currentTimeMillis();
+        var last = this.lastMissReload.get();
+        if (now - last < MISS_RELOAD_INTERVAL_MILLIS || !this.lastMissReload.compareAndSet(last, now)) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    private static JWKSet toJwkSet(RSAKeyPairService.RSAKeyPair keyPair) {
+        if (keyPair == null) {
+            return new JWKSet();
+        }
+        return new JWKSet(keyPair.algorithm()
+                .toJwk(keyPair));
+    }
+
+    private record Snapshot(Map<String, RSAKeyPairService.RSAKeyPair> byId, RSAKeyPairService.RSAKeyPair current, JWKSet jwkSet) {
+    }
+
+}
@@ -19,7 +19,7 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.KeyFactory;
-import java.security.interfaces.RSAPublicKey;
+import java.security.PublicKey;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
 import org.springframework.core.serializer.Deserializer;
@@ -30,7 +30,7 @@ import org.springframework.util.FileCopyUtils;
 /**
  * @author YISivlay
  */
-public class RSAPublicKeyConverter implements Serializer<RSAPublicKey>, Deserializer<RSAPublicKey> {
+public class RSAPublicKeyConverter implements Serializer<PublicKey>, Deserializer<PublicKey> {
 
     private final TextEncryptor textEncryptor;
 
@@ -39,23 +39,28 @@ public class RSAPublicKeyConverter implements Serializer<RSAPublicKey>, Deserial
     }
 
     @Override
-    public RSAPublicKey deserialize(InputStream inputStream) {
+    public PublicKey deserialize(InputStream inputStream) {
+        return deserialize(inputStream, SigningAlgorithm.RS256);
+    }
+
+    public PublicKey deserialize(InputStream inputStream,
+                                 SigningAlgorithm algorithm) {
         try {
             var pem = textEncryptor.decrypt(FileCopyUtils.copyToString(new InputStreamReader(inputStream)));
             var publicKeyPEM = pem.replace("-----BEGIN PUBLIC KEY-----", "")
                     .replace("-----END PUBLIC KEY-----", "");
             var encoded = Base64.getMimeDecoder()
                     .decode(publicKeyPEM);
-            var keyFactory = KeyFactory.getInstance("RSA");
+            var keyFactory = KeyFactory.getInstance(algorithm.keyAlgorithm());
             var keySpec = new X509EncodedKeySpec(encoded);
-            return (RSAPublicKey) keyFactory.generatePublic(keySpec);
+            return keyFactory.generatePublic(keySpec);
         } catch (Throwable throwable) {
             throw new IllegalArgumentException("there's been an exception", throwable);
         }
     }
 
     @Override
-    public void serialize(RSAPublicKey object,
+    public void serialize(PublicKey object,
                           OutputStream outputStream) throws IOException {
         var x509EncodedKeySpec = new X509EncodedKeySpec(object.getEncoded());
         var pem = "-----BEGIN PUBLIC KEY-----\n" + Base64.getMimeEncoder()
@@ -65,8 +70,13 @@ public class RSAPublicKeyConverter implements Serializer<RSAPublicKey>, Deserial
     }
 
     public Key convertFromString(String keyStr) throws IOException {
+        return convertFromString(keyStr, SigningAlgorithm.RS256);
+    }
+
+    public PublicKey convertFromString(String keyStr,
+                                       SigningAlgorithm algorithm) throws IOException {
         var byteArrayInputStream = new ByteArrayInputStream(keyStr.getBytes(StandardCharsets.UTF_8));
-        return deserialize(byteArrayInputStream);
+        return deserialize(byteArrayInputStream, algorithm);
     }
 
 }
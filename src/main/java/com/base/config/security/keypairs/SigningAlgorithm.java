@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.keypairs;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+
+/**
+ * JWS algorithms the key store can sign with, selected by {@code security.jwt.signing-algorithm}.
+ * <p>
+ * {@code RS256} (RSA-2048) remains the default; {@code ES256} (EC P-256) signs considerably faster. EdDSA is not offered:
+ * Spring's {@link SignatureAlgorithm} has no EdDSA constant and Nimbus needs Google Tink to sign with Ed25519.
+ *
+ * @author YISivlay
+ */
+public enum SigningAlgorithm {
+
+    RS256("RSA", JWSAlgorithm.RS256, SignatureAlgorithm.RS256),
+    ES256("EC", JWSAlgorithm.ES256, SignatureAlgorithm.ES256);
+
+    private final String keyAlgorithm;
+    private final JWSAlgorithm jwsAlgorithm;
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    SigningAlgorithm(String keyAlgorithm,
+                     JWSAlgorithm jwsAlgorithm,
+                     SignatureAlgorithm signatureAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+        this.jwsAlgorithm = jwsAlgorithm;
+        this.signatureAlgorithm = signatureAlgorithm;
+    }
+
+    /** The JCA key algorithm, as used by {@link java.security.KeyFactory}. */
+    public String keyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public JWSAlgorithm jwsAlgorithm() {
+        return jwsAlgorithm;
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    public KeyPair generateKeyPair() {
+        try {
+            var keyPairGenerator = KeyPairGenerator.getInstance(keyAlgorithm);
+            switch (this) {
+                case RS256 -> keyPairGenerator.initialize(2048);
+                case ES256 -> keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            return keyPairGenerator.generateKeyPair();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public JWK toJwk(RSAKeyPairService.RSAKeyPair keyPair) {
+        return switch (this) {
+            case RS256 -> new RSAKey.Builder((RSAPublicKey) keyPair.publicKey()).privateKey((RSAPrivateKey) keyPair.privateKey())
+                    .keyID(keyPair.id())
+                    .algorithm(jwsAlgorithm)
+                    .build();
+            case ES256 -> new ECKey.Builder(Curve.P_256, (ECPublicKey) keyPair.publicKey()).privateKey((ECPrivateKey) keyPair.privateKey())
+                    .keyID(keyPair.id())
+                    .algorithm(jwsAlgorithm)
+                    .build();
+        };
+    }
+
+    public JWSSigner signer(PrivateKey privateKey) throws JOSEException {
+        return switch (this) {
+            case RS256 -> new RSASSASigner(privateKey);
+            case ES256 -> new ECDSASigner((ECPrivateKey) privateKey);
+        };
+    }
+
+}
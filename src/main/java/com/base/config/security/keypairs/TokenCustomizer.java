@@ -31,20 +31,20 @@ import java.util.stream.Collectors;
 @Component
 public class TokenCustomizer implements OAuth2TokenCustomizer<JwtEncodingContext> {
 
-    private final RSAKeyPairService rsaKeyPairService;
+    private final RSAKeyRing rsaKeyRing;
 
     @Autowired
-    public TokenCustomizer(RSAKeyPairService rsaKeyPairService) {
-        this.rsaKeyPairService = rsaKeyPairService;
+    public TokenCustomizer(RSAKeyRing rsaKeyRing) {
+        this.rsaKeyRing = rsaKeyRing;
     }
 
     @Override
     public void customize(JwtEncodingContext context) {
 
-        rsaKeyPairService.findKeyPairs()
-                .stream()
-                .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created))
+        rsaKeyRing.current()
                 .ifPresent(keyPair -> context.getJwsHeader()
+                        .algorithm(keyPair.algorithm()
+                                .signatureAlgorithm())
                         .keyId(keyPair.id()));
 
         Authentication principal = context.getPrincipal();
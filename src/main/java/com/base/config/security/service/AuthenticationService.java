@@ -15,6 +15,7 @@
  */
 package com.base.config.security.service;
 
+import com.base.config.security.data.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import java.util.Date;
 import java.util.Map;
@@ -43,10 +44,15 @@ public interface AuthenticationService {
     boolean isTokenValid(String token,
                          UserDetails userDetails);
 
+    boolean isTokenValid(VerifiedToken token,
+                         UserDetails userDetails);
+
     boolean isTokenExpired(String token);
 
     Date extractExpiration(String token);
 
     Claims extractAllClaims(String token);
 
+    VerifiedToken verify(String token);
+
 }
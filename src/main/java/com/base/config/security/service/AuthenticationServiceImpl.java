@@ -15,15 +15,17 @@
  */
 package com.base.config.security.service;
 
+import com.base.config.security.data.VerifiedToken;
 import com.base.config.security.keypairs.RSAKeyPairService;
+import com.base.config.security.keypairs.RSAKeyRing;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import io.jsonwebtoken.LocatorAdapter;
+import java.security.Key;
 import java.time.Clock;
 import java.time.Instant;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -42,13 +44,16 @@ public final class AuthenticationServiceImpl implements AuthenticationService {
     private static final long EXPIRATION = 1000 * 60 * 15;
 
     private final Clock clock;
-    private final RSAKeyPairService rsaKeyPairService;
+    private final RSAKeyRing rsaKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Autowired
     public AuthenticationServiceImpl(final Clock clock,
-                                     final RSAKeyPairService rsaKeyPairService) {
+                                     final RSAKeyRing rsaKeyRing,
+                                     final VerifiedTokenCache verifiedTokenCache) {
         this.clock = clock;
-        this.rsaKeyPairService = rsaKeyPairService;
+        this.rsaKeyRing = rsaKeyRing;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -83,28 +88,34 @@ public final class AuthenticationServiceImpl implements AuthenticationService {
                 .map(GrantedAuthority::getAuthority)
                 .toList();
 
-        RSAPrivateKey privateKey = rsaKeyPairService.findKeyPairs()
-                .stream()
-                .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created))
-                .map(RSAKeyPairService.RSAKeyPair::privateKey)
+        var keyPair = rsaKeyRing.current()
                 .orElseThrow(() -> new IllegalStateException("No RSA key pair found in the repository"));
 
         return Jwts.builder()
+                .header()
+                .keyId(keyPair.id())
+                .and()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
                 .issuedAt(Date.from(Instant.now(clock)))
                 .expiration(Date.from(Instant.now(clock)
                         .plusSeconds(expiration)))
                 .claim("authorities", authorities)
-                .signWith(privateKey)
+                .signWith(keyPair.privateKey())
                 .compact();
     }
 
     @Override
     public boolean isTokenValid(String token,
                                 UserDetails userDetails) {
-        final var username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
+    }
+
+    @Override
+    public boolean isTokenValid(VerifiedToken token,
+                                UserDetails userDetails) {
+        return token.subject() != null && token.subject()
+                .equals(userDetails.getUsername()) && !token.isExpired(Date.from(Instant.now(clock)));
     }
 
     @Override
@@ -119,18 +130,29 @@ public final class AuthenticationServiceImpl implements AuthenticationService {
 
     @Override
     public Claims extractAllClaims(String token) {
+        return verify(token).claims();
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        return verifiedTokenCache.get(token, this::parse);
+    }
+
+    private VerifiedToken parse(String token) {
         try {
-            RSAPublicKey publicKey = rsaKeyPairService.findKeyPairs()
-                    .stream()
-                    .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created))
-                    .map(RSAKeyPairService.RSAKeyPair::publicKey)
-                    .orElseThrow(() -> new IllegalStateException("No RSA key pair found in the repository"));
-
-            return Jwts.parser()
-                    .verifyWith(publicKey)
+            var claims = Jwts.parser()
+                    .keyLocator(new LocatorAdapter<Key>() {
+                        @Override
+                        protected Key locate(JwsHeader header) {
+                            return rsaKeyRing.find(header.getKeyId())
+                                    .map(RSAKeyPairService.RSAKeyPair::publicKey)
+                                    .orElseThrow(() -> new IllegalStateException("No RSA key pair found in the repository"));
+                        }
+                    })
                     .build()
                     .parseSignedClaims(token)
                     .getPayload();
+            return VerifiedToken.of(claims);
         } catch (JwtException e) {
             throw new RuntimeException("Invalid or expired JWT token", e);
         }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+
+/**
+ * Caching decorator for {@link JdbcClientRegistrationRepository}, so a social-login round-trip does not run SQL for
+ * every lookup. Entries expire after the configured time-to-live and are invalidated when a registration is saved
+ * through {@link #save(ClientRegistration)}.
+ *
+ * @author YISivlay
+ */
+public class CachingClientRegistrationRepository implements ClientRegistrationRepository {
+
+    private final JdbcClientRegistrationRepository delegate;
+    private final Cache<String, ClientRegistration> byRegistrationId;
+
+    public CachingClientRegistrationRepository(JdbcClientRegistrationRepository delegate,
+                                               Duration timeToLive) {
+        this.delegate = delegate;
+        this.byRegistrationId = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    @Override
+    public ClientRegistration findByRegistrationId(String registrationId) {
+        return this.byRegistrationId.get(registrationId, this.delegate::findByRegistrationId);
+    }
+
+    public void save(ClientRegistration client) {
+        this.delegate.save(client);
+        evict(client.getRegistrationId());
+    }
+
+    public void evict(String registrationId) {
+        this.byRegistrationId.invalidate(registrationId);
+    }
+
+    public void evictAll() {
+        this.byRegistrationId.invalidateAll();
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+
+/**
+ * Caching decorator for a {@link RegisteredClientRepository}. Registered clients almost never change, but the token
+ * endpoint looks them up several times per issued token. Lookups are cached by id and by client id for the configured
+ * time-to-live, and both entries are invalidated whenever a client is saved (re-registered) through this repository.
+ *
+ * @author YISivlay
+ */
+public class CachingRegisteredClientRepository implements RegisteredClientRepository {
+
+    private final RegisteredClientRepository delegate;
+    private final Cache<String, RegisteredClient> byId;
+    private final Cache<String, RegisteredClient> byClientId;
+
+    public CachingRegisteredClientRepository(RegisteredClientRepository delegate,
+                                             Duration timeToLive) {
+        this.delegate = delegate;
+        this.byId = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .build();
+        this.byClientId = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    @Override
+    public void save(RegisteredClient registeredClient) {
+        this.delegate.save(registeredClient);
+        evict(registeredClient);
+    }
+
+    @Override
+    public RegisteredClient findById(String id) {
+        return this.byId.get(id, this.delegate::findById);
+    }
+
+    @Override
+    public RegisteredClient findByClientId(String clientId) {
+        return this.byClientId.get(clientId, this.delegate::findByClientId);
+    }
+
+    public void evict(RegisteredClient registeredClient) {
+        this.byId.invalidate(registeredClient.getId());
+        this.byClientId.invalidate(registeredClient.getClientId());
+    }
+
+    public void evictAll() {
+        this.byId.invalidateAll();
+        this.byClientId.invalidateAll();
+    }
+
+}
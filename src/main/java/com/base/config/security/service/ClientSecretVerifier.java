@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived, memory-only cache of successful client secret verifications, so high-rate M2M clients do not pay a full
+ * BCrypt verification on every token request.
+ * <p>
+ * Entries are keyed by an HMAC-SHA256, under a random per-process key, of the stored (encoded) client secret and the
+ * presented secret. The encoded secret carries its own salt, so it identifies the client and the secret version: a
+ * rotated secret never matches an old entry. Raw secrets are never held in memory. Failed verifications are not
+ * cached.
+ *
+ * @author YISivlay
+ */
+@Component
+public class ClientSecretVerifier {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder passwordEncoder;
+    private final SecretKeySpec hmacKey;
+    private final Cache<String, Boolean> verified;
+    private final Counter avoided;
+    private final Counter performed;
+    private final Counter rejected;
+
+    @Autowired
+    public ClientSecretVerifier(final PasswordEncoder passwordEncoder,
+                                final MeterRegistry meterRegistry,
+                                @Value("${security.client-secret-cache.ttl:5m}") final Duration timeToLive,
+                                @Value("${security.client-secret-cache.maximum-size:1000}") final long maximumSize) {
+        this.passwordEncoder = passwordEncoder;
+        var key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+        this.avoided = Counter.builder("security.client.secret.verification")
+                .description("Client secret verifications answered from cache (BCrypt calls avoided)")
+                .tag("result", "cached")
+                .register(meterRegistry);
+        this.performed = Counter.builder("security.client.secret.verification")
+                .tag("result", "verified")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("security.client.secret.verification")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    public boolean matches(String rawSecret,
+                           String encodedSecret) {
+        if (rawSecret == null || encodedSecret == null) {
+            return false;
+        }
+        var key = hmac(encodedSecret, rawSecret);
+        if (this.verified.getIfPresent(key) != null) {
+            this.avoided.increment();
+            return true;
+        }
+        if (!this.passwordEncoder.matches(rawSecret, encodedSecret)) {
+            this.rejected.increment();
+            return false;
+        }
+        this.performed.increment();
+        this.verified.put(key, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Adapts this verifier for the authorization server's client secret authentication, so both the pre-token filter
+     * and Spring's own client authentication share one verification.
+     */
+    public PasswordEncoder asPasswordEncoder() {
+        return new PasswordEncoder() {
+
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return passwordEncoder.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword,
+                                   String encodedPassword) {
+                return ClientSecretVerifier.this.matches(rawPassword == null
+                        ? null
+                        : rawPassword.toString(), encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return passwordEncoder.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    private String hmac(String encodedSecret,
+                        String rawSecret) {
+        try {
+            var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(this.hmacKey);
+            mac.update(encodedSecret.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(mac.doFinal(rawSecret.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -15,17 +15,13 @@
  */
 package com.base.config.security.service;
 
-import com.base.config.security.keypairs.RSAKeyPairService;
+import com.base.config.security.keypairs.RSAKeyRing;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObjectType;
-import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import java.security.interfaces.RSAPrivateKey;
 import java.time.Instant;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -41,24 +37,16 @@ public class JwtAssertionGeneratorService {
 
     private final Logger logger = LoggerFactory.getLogger(JwtAssertionGeneratorService.class);
 
-    private final RSAKeyPairService rsaKeyPairService;
+    private final RSAKeyRing rsaKeyRing;
 
     @Autowired
-    public JwtAssertionGeneratorService(RSAKeyPairService rsaKeyPairService) {
-        this.rsaKeyPairService = rsaKeyPairService;
+    public JwtAssertionGeneratorService(RSAKeyRing rsaKeyRing) {
+        this.rsaKeyRing = rsaKeyRing;
     }
 
     public String generateClientAssertion() throws JOSEException {
 
-        RSAPrivateKey privateKey = rsaKeyPairService.findKeyPairs()
-                .stream()
-                .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created))
-                .map(RSAKeyPairService.RSAKeyPair::privateKey)
-                .orElseThrow(() -> new IllegalStateException("No RSA key pair found in the repository"));
-
-        var latestKey = rsaKeyPairService.findKeyPairs()
-                .stream()
-                .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created))
+        var latestKey = rsaKeyRing.current()
                 .orElseThrow(() -> {
                     logger.error("No RSA key pair found in repository");
                     return new IllegalStateException("No RSA key pair available for signing");
@@ -75,12 +63,14 @@ public class JwtAssertionGeneratorService {
                 .claim("scope", "write")
                 .build();
 
-        var header = new JWSHeader.Builder(JWSAlgorithm.RS256).type(JOSEObjectType.JWT)
+        var header = new JWSHeader.Builder(latestKey.algorithm()
+                .jwsAlgorithm()).type(JOSEObjectType.JWT)
                 .keyID(latestKey.id())
                 .build();
 
         var signedJWT = new SignedJWT(header, claimsSet);
-        signedJWT.sign(new RSASSASigner(privateKey));
+        signedJWT.sign(latestKey.algorithm()
+                .signer(latestKey.privateKey()));
 
         return signedJWT.serialize();
     }
@@ -17,20 +17,24 @@ package com.base.config.security.service;
 
 import com.base.core.authentication.user.model.User;
 import com.base.core.authentication.user.repository.UserRepository;
+import com.base.core.authentication.user.service.UserDetailsCache;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.session.SessionInformation;
-import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * @author YISivlay
@@ -38,6 +42,9 @@ import java.util.stream.Collectors;
 @Service
 public class SecurityContextImpl implements SecurityContext {
 
+    /** Request attribute holding the {@link User} resolved for the current request, so it is looked up only once. */
+    private static final String AUTHENTICATED_USER = SecurityContextImpl.class.getName() + ".AUTHENTICATED_USER";
+
     @Autowired
     private UserRepository userRepository;
 
@@ -45,7 +52,13 @@ public class SecurityContextImpl implements SecurityContext {
     private JdbcTemplate jdbcTemplate;
 
     @Autowired
-    private SessionRegistry sessionRegistry;
+    private SessionLogoutBroadcaster sessionLogoutBroadcaster;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private ObjectProvider<OAuth2AuthorizationService> authorizationService;
 
     @Override
     public User authenticatedUser() {
@@ -59,14 +72,28 @@ public class SecurityContextImpl implements SecurityContext {
         if (principal instanceof User user) {
             return user;
         } else if (principal instanceof Jwt jwt) {
-            String username = jwt.getClaimAsString("sub");
-            return userRepository.findByUsername(username)
-                    .orElseThrow(() -> new OAuth2AuthenticationException(new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "User not found: " + username, null)));
+            return resolveUser(jwt.getClaimAsString("sub"));
+        } else if (principal instanceof UserDetails userDetails) {
+            return resolveUser(userDetails.getUsername());
         } else {
             throw new OAuth2AuthenticationException(new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "Unsupported principal type.", null));
         }
     }
 
+    private User resolveUser(String username) {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(AUTHENTICATED_USER, RequestAttributes.SCOPE_REQUEST) instanceof User memo && memo.getUsername()
+                .equals(username)) {
+            return memo;
+        }
+        var user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new OAuth2AuthenticationException(new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "User not found: " + username, null)));
+        if (attributes != null) {
+            attributes.setAttribute(AUTHENTICATED_USER, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
     @Override
     public boolean isAdmin() {
         try {
@@ -104,15 +131,10 @@ public class SecurityContextImpl implements SecurityContext {
 
     @Override
     public void forceLogout(String username) {
+        this.userDetailsCache.evict(username);
         this.jdbcTemplate.update("DELETE FROM oauth2_authorization WHERE principal_name = ?", username);
-        for (Object principal : sessionRegistry.getAllPrincipals()) {
-            if (principal instanceof User user && user.getUsername()
-                    .equals(username)) {
-                for (SessionInformation sessionInfo : sessionRegistry.getAllSessions(principal, false)) {
-                    sessionInfo.expireNow();
-                }
-            }
-        }
+        evictAuthorizations(List.of(username));
+        this.sessionLogoutBroadcaster.logout(List.of(username));
     }
 
     @Override
@@ -122,21 +144,16 @@ public class SecurityContextImpl implements SecurityContext {
         }
         Collection<String> usernames = this.userRepository.findUsernamesByRoleId(roleId);
         if (!usernames.isEmpty()) {
+            this.userDetailsCache.evictAll(usernames);
+            this.jdbcTemplate.update("DELETE FROM oauth2_authorization WHERE principal_name IN (SELECT u.username FROM users u JOIN user_roles ur ON ur.user_id = u.id WHERE ur.role_id = ?)", roleId);
+            evictAuthorizations(usernames);
+            this.sessionLogoutBroadcaster.logout(usernames);
+        }
+    }
 
-            this.jdbcTemplate.update("DELETE FROM oauth2_authorization WHERE principal_name IN (%s)".formatted(usernames.stream()
-                    .map(_ -> "?")
-                    .collect(Collectors.joining(","))), usernames.toArray());
-
-            usernames.forEach(username -> {
-                for (Object principal : sessionRegistry.getAllPrincipals()) {
-                    if (principal instanceof User user && user.getUsername()
-                            .equals(username)) {
-                        for (SessionInformation sessionInfo : sessionRegistry.getAllSessions(principal, false)) {
-                            sessionInfo.expireNow();
-                        }
-                    }
-                }
-            });
+    private void evictAuthorizations(Collection<String> usernames) {
+        if (this.authorizationService.getIfAvailable() instanceof TieredOAuth2AuthorizationService tiered) {
+            tiered.evictPrincipals(usernames);
         }
     }
 }
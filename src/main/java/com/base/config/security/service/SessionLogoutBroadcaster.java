@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Expires the sessions of forcibly logged-out users. Expiry runs after the surrounding transaction commits, so the
+ * admin request does not hold the transaction open while sessions are walked, and a rolled-back change logs nobody out.
+ * <p>
+ * When {@code spring.redis.enabled} is set, usernames are also published on {@value #CHANNEL}; every node listens and
+ * expires its own sessions, so logout reaches sessions held by other nodes.
+ *
+ * @author YISivlay
+ */
+@Component
+public class SessionLogoutBroadcaster implements SmartLifecycle {
+
+    static final String CHANNEL = "security:session:logout";
+
+    private final Logger logger = LoggerFactory.getLogger(SessionLogoutBroadcaster.class);
+
+    private final SessionRegistry sessionRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    public SessionLogoutBroadcaster(final SessionRegistry sessionRegistry,
+                                    final Environment env,
+                                    final ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                                    final ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this.sessionRegistry = sessionRegistry;
+        var useRedis = Boolean.parseBoolean(env.getProperty("spring.redis.enabled", "false"));
+        var connectionFactory = useRedis
+                ? redisConnectionFactory.getIfAvailable()
+                : null;
+        if (connectionFactory != null) {
+            this.redisTemplate = redisTemplate.getIfAvailable();
+            this.listenerContainer = new RedisMessageListenerContainer();
+            this.listenerContainer.setConnectionFactory(connectionFactory);
+            this.listenerContainer.addMessageListener((message, _) -> expireLocally(Arrays.asList(new String(message.getBody(), StandardCharsets.UTF_8).split("\n"))),
+                    new ChannelTopic(CHANNEL));
+        } else {
+            this.redisTemplate = null;
+            this.listenerContainer = null;
+        }
+    }
+
+    public void logout(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        var snapshot = List.copyOf(usernames);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(snapshot);
+                }
+            });
+        } else {
+            broadcast(snapshot);
+        }
+    }
+
+    private void broadcast(List<String> usernames) {
+        if (this.redisTemplate != null) {
+            this.redisTemplate.convertAndSend(CHANNEL, String.join("\n", usernames));
+        } else {
+            expireLocally(usernames);
+        }
+    }
+
+    private void expireLocally(Collection<String> usernames) {
+        if (this.sessionRegistry instanceof UsernameIndexedSessionRegistry indexed) {
+            var expired = indexed.expireSessions(usernames);
+            logger.debug("Expired {} session(s) for {} user(s)", expired, usernames.size());
+            return;
+        }
+        for (var principal : this.sessionRegistry.getAllPrincipals()) {
+            if (usernames.contains(UsernameIndexedSessionRegistry.username(principal))) {
+                this.sessionRegistry.getAllSessions(principal, false)
+                        .forEach(SessionInformation::expireNow);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (this.listenerContainer != null) {
+            this.listenerContainer.afterPropertiesSet();
+            this.listenerContainer.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (this.listenerContainer != null) {
+            this.listenerContainer.stop();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.listenerContainer != null && this.listenerContainer.isRunning();
+    }
+
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.service;
+
+import com.base.utils.DigestUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2DeviceCode;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.core.OAuth2UserCode;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link OAuth2AuthorizationService} with a hot tier in front of the JDBC tier.
+ * <p>
+ * Every token value an authorization carries is indexed by its SHA-256 digest, so issue, refresh, introspection and
+ * revocation resolve a token with a primary-key lookup instead of a scan of the token columns. The index also keeps the
+ * digests of each authorization, so a save drops the digests of rotated tokens whether or not this node saw them.
+ * <p>
+ * Without Redis the index and the authorizations themselves are cached in Caffeine. With Redis the index is shared by
+ * every node and authorizations are always read from JDBC by id, because a token revoked or refreshed on one node must
+ * not be served from another node's memory.
+ * <p>
+ * An indexed authorization is only returned if it still carries the requested token value, so a stale index entry
+ * falls through to JDBC instead of being served.
+ *
+ * @author YISivlay
+ */
+public class TieredOAuth2AuthorizationService implements OAuth2AuthorizationService {
+
+    private final OAuth2AuthorizationService delegate;
+    /** {@code null} when the token index is shared in Redis */
+    private final Cache<String, OAuth2Authorization> authorizations;
+    private final TokenIndex tokenIndex;
+
+    public TieredOAuth2AuthorizationService(OAuth2AuthorizationService delegate,
+                                            Duration timeToLive,
+                                            long maximumSize,
+                                            StringRedisTemplate redisTemplate) {
+        this.delegate = delegate;
+        if (redisTemplate == null) {
+            this.authorizations = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(timeToLive)
+                    .build();
+            this.tokenIndex = new CaffeineTokenIndex(timeToLive, maximumSize);
+        } else {
+            this.authorizations = null;
+            this.tokenIndex = new RedisTokenIndex(redisTemplate, timeToLive);
+        }
+    }
+
+    @Override
+    public void save(OAuth2Authorization authorization) {
+        this.delegate.save(authorization);
+        cache(authorization);
+    }
+
+    @Override
+    public void remove(OAuth2Authorization authorization) {
+        this.delegate.remove(authorization);
+        evict(authorization);
+    }
+
+    @Override
+    public OAuth2Authorization findById(String id) {
+        if (this.authorizations == null) {
+            return this.delegate.findById(id);
+        }
+        var authorization = this.authorizations.getIfPresent(id);
+        if (authorization != null) {
+            return authorization;
+        }
+        authorization = this.delegate.findById(id);
+        if (authorization != null) {
+            cache(authorization);
+        }
+        return authorization;
+    }
+
+    @Override
+    public OAuth2Authorization findByToken(String token,
+                                           OAuth2TokenType tokenType) {
+        var id = this.tokenIndex.find(DigestUtils.sha256(token));
+        if (id != null) {
+            var authorization = findById(id);
+            if (authorization != null && carries(authorization, token, tokenType)) {
+                return authorization;
+            }
+        }
+        var authorization = this.delegate.findByToken(token, tokenType);
+        if (authorization != null) {
+            cache(authorization);
+        }
+        return authorization;
+    }
+
+    /**
+     * Drops every cached authorization of the given principals, for callers that delete rows from
+     * {@code oauth2_authorization} directly. Inside a transaction the eviction runs after commit, so a lookup racing the
+     * delete cannot cache the still committed row again. Shared index entries of those rows resolve to no authorization
+     * and fall through to JDBC until they expire.
+     */
+    public void evictPrincipals(Collection<String> principalNames) {
+        if (this.authorizations == null) {
+            return;
+        }
+        var snapshot = Set.copyOf(principalNames);
+        afterCommit(() -> this.authorizations.asMap()
+                .values()
+                .stream()
+                .filter(authorization -> snapshot.contains(authorization.getPrincipalName()))
+                .toList()
+                .forEach(this::evict));
+    }
+
+    private void cache(OAuth2Authorization authorization) {
+        if (this.authorizations != null) {
+            this.authorizations.put(authorization.getId(), authorization);
+        }
+        this.tokenIndex.put(authorization.getId(), tokenValues(authorization));
+    }
+
+    private void evict(OAuth2Authorization authorization) {
+        if (this.authorizations != null) {
+            this.authorizations.invalidate(authorization.getId());
+        }
+        this.tokenIndex.remove(authorization.getId());
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private static boolean carries(OAuth2Authorization authorization,
+                                   String token,
+                                   OAuth2TokenType tokenType) {
+        if (tokenType == null) {
+            return token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE)) || matches(authorization.getToken(OAuth2AuthorizationCode.class), token)
+                    || matches(authorization.getToken(OAuth2AccessToken.class), token) || matches(authorization.getToken(OAuth2RefreshToken.class), token)
+                    || matches(authorization.getToken(OidcIdToken.class), token) || matches(authorization.getToken(OAuth2UserCode.class), token)
+                    || matches(authorization.getToken(OAuth2DeviceCode.class), token);
+        }
+        return switch (tokenType.getValue()) {
+            case OAuth2ParameterNames.STATE -> token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE));
+            case OAuth2ParameterNames.CODE -> matches(authorization.getToken(OAuth2AuthorizationCode.class), token);
+            case OAuth2ParameterNames.ACCESS_TOKEN -> matches(authorization.getToken(OAuth2AccessToken.class), token);
+            case OAuth2ParameterNames.REFRESH_TOKEN -> matches(authorization.getToken(OAuth2RefreshToken.class), token);
+            case OidcParameterNames.ID_TOKEN -> matches(authorization.getToken(OidcIdToken.class), token);
+            case OAuth2ParameterNames.USER_CODE -> matches(authorization.getToken(OAuth2UserCode.class), token);
+            case OAuth2ParameterNames.DEVICE_CODE -> matches(authorization.getToken(OAuth2DeviceCode.class), token);
+            default -> false;
+        };
+    }
+
+    private static boolean matches(OAuth2Authorization.Token<? extends OAuth2Token> token,
+                                   String value) {
+        return token != null && value.equals(token.getToken()
+                .getTokenValue());
+    }
+
+    private static List<String> tokenValues(OAuth2Authorization authorization) {
+        List<String> values = new ArrayList<>(7);
+        String state = authorization.getAttribute(OAuth2ParameterNames.STATE);
+        if (state != null) {
+            values.add(DigestUtils.sha256(state));
+        }
+        for (var type : List.of(OAuth2AuthorizationCode.class, OAuth2AccessToken.class, OAuth2RefreshToken.class, OidcIdToken.class, OAuth2UserCode.class,
+                OAuth2DeviceCode.class)) {
+            var token = authorization.getToken(type);
+            if (token != null) {
+                values.add(DigestUtils.sha256(token.getToken()
+                        .getTokenValue()));
+            }
+        }
+        return values;
+    }
+
+    private interface TokenIndex {
+
+        String find(String tokenDigest);
+
+        /** Indexes {@code tokenDigests} and drops the digests previously indexed for the authorization */
+        void put(String authorizationId,
+                 Collection<String> tokenDigests);
+
+        void remove(String authorizationId);
+
+    }
+
+    private static final class CaffeineTokenIndex implements TokenIndex {
+
+        private final Cache<String, String> index;
+        private final Cache<String, Collection<String>> digests;
+
+        CaffeineTokenIndex(Duration timeToLive,
+                           long maximumSize) {
+            this.index = Caffeine.newBuilder()
+                    .maximumSize(maximumSize * 4)
+                    .expireAfterWrite(timeToLive)
+                    .build();
+            this.digests = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(timeToLive)
+                    .build();
+        }
+
+        @Override
+        public String find(String tokenDigest) {
+            return this.index.getIfPresent(tokenDigest);
+        }
+
+        @Override
+        public void put(String authorizationId,
+                        Collection<String> tokenDigests) {
+            var previous = this.digests.asMap()
+                    .put(authorizationId, List.copyOf(tokenDigests));
+            if (previous != null) {
+                this.index.invalidateAll(previous.stream()
+                        .filter(tokenDigest -> !tokenDigests.contains(tokenDigest))
+                        .toList());
+            }
+            tokenDigests.forEach(tokenDigest -> this.index.put(tokenDigest, authorizationId));
+        }
+
+        @Override
+        public void remove(String authorizationId) {
+            var previous = this.digests.asMap()
+                    .remove(authorizationId);
+            if (previous != null) {
+                this.index.invalidateAll(previous);
+            }
+        }
+
+    }
+
+    private static final class RedisTokenIndex implements TokenIndex {
+
+        private static final String PREFIX = "oauth2:authorization:token:";
+        private static final String DIGESTS_PREFIX = "oauth2:authorization:digests:";
+
+        private final StringRedisTemplate redisTemplate;
+        private final Duration timeToLive;
+
+        RedisTokenIndex(StringRedisTemplate redisTemplate,
+                        Duration timeToLive) {
+            this.redisTemplate = redisTemplate;
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        public String find(String tokenDigest) {
+            return this.redisTemplate.opsForValue()
+                    .get(PREFIX + tokenDigest);
+        }
+
+        @Override
+        public void put(String authorizationId,
+                        Collection<String> tokenDigests) {
+            var digestsKey = DIGESTS_PREFIX + authorizationId;
+            var previous = this.redisTemplate.opsForSet()
+                    .members(digestsKey);
+            if (previous != null) {
+                delete(previous.stream()
+                        .filter(tokenDigest -> !tokenDigests.contains(tokenDigest))
+                        .toList());
+            }
+            tokenDigests.forEach(tokenDigest -> this.redisTemplate.opsForValue()
+                    .set(PREFIX + tokenDigest, authorizationId, this.timeToLive));
+            this.redisTemplate.delete(digestsKey);
+            if (!tokenDigests.isEmpty()) {
+                this.redisTemplate.opsForSet()
+                        .add(digestsKey, tokenDigests.toArray(String[]::new));
+                this.redisTemplate.expire(digestsKey, this.timeToLive);
+            }
+        }
+
+        @Override
+        public void remove(String authorizationId) {
+            var digestsKey = DIGESTS_PREFIX + authorizationId;
+            var previous = this.redisTemplate.opsForSet()
+                    .members(digestsKey);
+            if (previous != null) {
+                delete(previous);
+            }
+            this.redisTemplate.delete(digestsKey);
+        }
+
+        private void delete(Collection<String> tokenDigests) {
+            if (!tokenDigests.isEmpty()) {
+                this.redisTemplate.delete(tokenDigests.stream()
+                        .map(tokenDigest -> PREFIX + tokenDigest)
+                        .toList());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.service;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.session.SessionRegistryImpl;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * {@link SessionRegistryImpl} that also indexes session ids by username, so expiring a user's sessions is one map lookup
+ * instead of a scan over every logged-in principal.
+ *
+ * @author YISivlay
+ */
+public class UsernameIndexedSessionRegistry extends SessionRegistryImpl {
+
+    private final ConcurrentMap<String, Set<String>> sessionIdsByUsername = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerNewSession(String sessionId,
+                                   Object principal) {
+        super.registerNewSession(sessionId, principal);
+        this.sessionIdsByUsername.computeIfAbsent(username(principal), _ -> ConcurrentHashMap.newKeySet())
+                .add(sessionId);
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        var sessionInformation = getSessionInformation(sessionId);
+        if (sessionInformation != null) {
+            this.sessionIdsByUsername.computeIfPresent(username(sessionInformation.getPrincipal()), (_,
+                                                                                                   sessionIds) -> {
+                sessionIds.remove(sessionId);
+                return sessionIds.isEmpty()
+                        ? null
+                        : sessionIds;
+            });
+        }
+        super.removeSessionInformation(sessionId);
+    }
+
+    /**
+     * Expires every session of the given users on this node and returns how many were expired.
+     */
+    public int expireSessions(Collection<String> usernames) {
+        var expired = 0;
+        for (var username : usernames) {
+            var sessionIds = this.sessionIdsByUsername.get(username);
+            if (sessionIds == null) {
+                continue;
+            }
+            for (var sessionId : sessionIds) {
+                var sessionInformation = getSessionInformation(sessionId);
+                if (sessionInformation != null && !sessionInformation.isExpired()) {
+                    sessionInformation.expireNow();
+                    expired++;
+                }
+            }
+        }
+        return expired;
+    }
+
+    static String username(Object principal) {
+        return switch (principal) {
+            case UserDetails userDetails -> userDetails.getUsername();
+            case AuthenticatedPrincipal authenticatedPrincipal -> authenticatedPrincipal.getName();
+            case Principal namedPrincipal -> namedPrincipal.getName();
+            default -> String.valueOf(principal);
+        };
+    }
+
+}
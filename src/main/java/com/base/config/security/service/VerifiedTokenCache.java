@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.security.service;
+
+import com.base.config.security.data.VerifiedToken;
+import com.base.utils.DigestUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of verified bearer tokens keyed by the SHA-256 digest of the token. Entries live until the token's own
+ * {@code exp}, so a repeated bearer token skips signature verification entirely.
+ *
+ * @author YISivlay
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer verification;
+
+    @Autowired
+    public VerifiedTokenCache(final Clock clock,
+                              final MeterRegistry meterRegistry,
+                              @Value("${security.jwt.verified-cache.maximum-size:10000}") final long maximumSize) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String _,
+                                              VerifiedToken token) -> timeToLive(token)))
+                .build();
+        this.hits = Counter.builder("security.jwt.verification.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("security.jwt.verification.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.verification = Timer.builder("security.jwt.verification")
+                .description("Time spent verifying JWT signatures and parsing claims")
+                .register(meterRegistry);
+    }
+
+    public VerifiedToken get(String token,
+                             Function<String, VerifiedToken> verifier) {
+        var key = DigestUtils.sha256(token);
+        var verified = this.cache.getIfPresent(key);
+        if (verified != null) {
+            this.hits.increment();
+            return verified;
+        }
+        this.misses.increment();
+        var sample = Timer.start();
+        try {
+            verified = verifier.apply(token);
+        } finally {
+            sample.stop(this.verification);
+        }
+        if (verified != null && !timeToLive(verified).isZero()) {
+            this.cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    private Duration timeToLive(VerifiedToken token) {
+        if (token.expiration() == null) {
+            return Duration.ZERO;
+        }
+        var ttl = Duration.ofMillis(token.expiration()
+                .getTime() - this.clock.millis());
+        return ttl.isNegative()
+                ? Duration.ZERO
+                : ttl;
+    }
+
+}
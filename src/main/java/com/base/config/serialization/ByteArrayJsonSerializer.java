@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.config.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes {@code byte[]} as an array of signed numbers instead of Jackson's default base64 string, the representation
+ * API clients received from the earlier Gson response path (e.g. {@code GET /files/{entity}/{id}/byte}).
+ *
+ * @author YISivlay
+ */
+public class ByteArrayJsonSerializer extends StdSerializer<byte[]> {
+
+    public ByteArrayJsonSerializer() {
+        super(byte[].class);
+    }
+
+    @Override
+    public void serialize(byte[] bytes,
+                          JsonGenerator generator,
+                          SerializerProvider serializerProvider) throws IOException {
+        generator.writeStartArray(bytes, bytes.length);
+        for (var b : bytes) {
+            generator.writeNumber(b);
+        }
+        generator.writeEndArray();
+    }
+
+}
@@ -39,6 +39,7 @@ public class JsonConfig {
             SimpleModule module = new SimpleModule();
             module.addSerializer(new PageableResponseSerializer());
             module.addSerializer(new PageableJsonSerializer());
+            module.addSerializer(new ByteArrayJsonSerializer());
             builder.modules(module);
 
             builder.propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
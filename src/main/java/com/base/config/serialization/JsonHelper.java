@@ -17,7 +17,6 @@ package com.base.config.serialization;
 
 import com.base.core.exception.ErrorException;
 import com.google.gson.*;
-import java.lang.reflect.Type;
 import java.util.*;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.MessageSource;
@@ -53,19 +52,18 @@ public class JsonHelper {
         return this.gson.fromJson(json, classOfT);
     }
 
-    /** Check for unsupported parameters in JSON */
-    public void unsupportedParameters(final Type typeOfMap,
-                                      final String json,
+    /** Check for unsupported parameters in an already parsed JSON object */
+    public void unsupportedParameters(final JsonElement element,
                                       final Collection<String> supportedParams) {
         Locale locale = LocaleContextHolder.getLocale();
-        if (StringUtils.isBlank(json)) {
+        if (element == null || !element.isJsonObject()) {
             String message = messageSource.getMessage("validation.json.invalid", null, "Invalid JSON", locale);
             throw new ErrorException(message);
         }
 
-        final Map<String, Object> requestMap = this.gson.fromJson(json, typeOfMap);
         final List<String> unsupportedParameterList = new ArrayList<>();
-        for (final String providedParameter : requestMap.keySet()) {
+        for (final String providedParameter : element.getAsJsonObject()
+                .keySet()) {
             if (!supportedParams.contains(providedParameter)) {
                 unsupportedParameterList.add(providedParameter);
             }
@@ -78,6 +76,11 @@ public class JsonHelper {
         }
     }
 
+    /** Convert an object to a JsonElement without going through a JSON string */
+    public JsonElement toJsonTree(final Object object) {
+        return this.gson.toJsonTree(object);
+    }
+
     /** Extract a string value by field name from JsonElement */
     public String extractString(final String fieldName,
                                 final JsonElement element) {
@@ -15,67 +15,82 @@
  */
 package com.base.core.annotation;
 
+import com.base.core.command.data.JsonCommand;
 import com.base.core.command.service.CommandHandlerProcessing;
+import com.base.core.command.service.CommandMetrics;
 import com.base.core.exception.ErrorException;
-import java.util.ArrayList;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
-import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 /**
+ * Dispatch table of {@link CommandType} handlers.
+ * <p>
+ * Handlers are resolved once, after all singletons are instantiated, into an immutable map of handler instances keyed
+ * by action and entity, so dispatch on the write path is a single map lookup. Each handler is wrapped so its invocations
+ * are timed as the {@code handler} phase of {@link CommandMetrics} and failures are counted as
+ * {@code command.handler.failures}, tagged by action and entity.
+ *
  * @author YISivlay
  */
 @Component
-public class CommandTypeProvider implements ApplicationContextAware {
+public class CommandTypeProvider implements SmartInitializingSingleton {
 
     private final Logger logger = LoggerFactory.getLogger(CommandTypeProvider.class);
 
+    private final Environment environment;
+    private final ApplicationContext applicationContext;
+    private final MeterRegistry meterRegistry;
+    private final CommandMetrics commandMetrics;
+    private volatile Map<Key, CommandHandlerProcessing> handlers = Map.of();
+
     @Autowired
-    private Environment environment;
-    private ApplicationContext applicationContext;
-    private HashMap<String, String> registeredCommandTypes;
+    public CommandTypeProvider(final Environment environment,
+                               final ApplicationContext applicationContext,
+                               final MeterRegistry meterRegistry,
+                               final CommandMetrics commandMetrics) {
+        this.environment = environment;
+        this.applicationContext = applicationContext;
+        this.meterRegistry = meterRegistry;
+        this.commandMetrics = commandMetrics;
+    }
 
     @Override
-    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
-        this.applicationContext = applicationContext;
-        List<String> commandTypes = new ArrayList<>();
-        if (registeredCommandTypes == null) {
-            this.registeredCommandTypes = new HashMap<>();
-            this.applicationContext.getBeansWithAnnotation(CommandType.class)
-                    .forEach((_,
-                              bean) -> {
-                        CommandType commandType = AopUtils.getTargetClass(bean)
-                                .getAnnotation(CommandType.class);
-                        this.registeredCommandTypes.put(commandType.action() + "|" + commandType.entity(), AopUtils.getTargetClass(bean)
-                                .getName());
-                        commandTypes.add(commandType.action() + "|" + commandType.entity());
-                    });
-        }
+    public void afterSingletonsInstantiated() {
+        Map<Key, CommandHandlerProcessing> dispatch = new HashMap<>();
+        this.applicationContext.getBeansWithAnnotation(CommandType.class)
+                .forEach((_,
+                          bean) -> {
+                    CommandType commandType = AopUtils.getTargetClass(bean)
+                            .getAnnotation(CommandType.class);
+                    var key = new Key(commandType.action(), commandType.entity());
+                    var previous = dispatch.put(key, new InstrumentedHandler((CommandHandlerProcessing) bean, commandType, this.meterRegistry, this.commandMetrics));
+                    if (previous != null) {
+                        throw new IllegalStateException("Duplicate @CommandType " + key);
+                    }
+                });
+        this.handlers = Map.copyOf(dispatch);
         if (isDevProfileActive()) {
-            logger.info("Registered @CommandType annotation {}", commandTypes);
+            logger.info("Registered @CommandType annotation {}", this.handlers.keySet());
         }
     }
 
     public CommandHandlerProcessing allHandler(String action,
                                                String entity) {
-        final String permission = action + "|" + entity;
-        if (!this.registeredCommandTypes.containsKey(permission)) {
-            throw new ErrorException("msg.bad.request.description", permission);
-        }
-        try {
-            Class<?> clazz = Class.forName(this.registeredCommandTypes.get(permission));
-            return (CommandHandlerProcessing) this.applicationContext.getBean(clazz);
-        } catch (ClassNotFoundException e) {
-            throw new ErrorException("msg.bad.request.description", this.registeredCommandTypes.get(permission));
+        var handler = this.handlers.get(new Key(action, entity));
+        if (handler == null) {
+            throw new ErrorException("msg.bad.request.description", action + "|" + entity);
         }
+        return handler;
     }
 
     private boolean isDevProfileActive() {
@@ -87,4 +102,48 @@ public class CommandTypeProvider implements ApplicationContextAware {
         return false;
     }
 
+    private record Key(String action, String entity) {
+
+        @Override
+        public String toString() {
+            return action + "|" + entity;
+        }
+
+    }
+
+    private static final class InstrumentedHandler implements CommandHandlerProcessing {
+
+        private final CommandHandlerProcessing delegate;
+        private final String action;
+        private final String entity;
+        private final CommandMetrics commandMetrics;
+        private final Counter failures;
+
+        InstrumentedHandler(CommandHandlerProcessing delegate,
+                            CommandType commandType,
+                            MeterRegistry meterRegistry,
+                            CommandMetrics commandMetrics) {
+            this.delegate = delegate;
+            this.action = commandType.action();
+            this.entity = commandType.entity();
+            this.commandMetrics = commandMetrics;
+            this.commandMetrics.timer(this.action, this.entity, CommandMetrics.Phase.HANDLER);
+            this.failures = Counter.builder("command.handler.failures")
+                    .tag("action", commandType.action())
+                    .tag("entity", commandType.entity())
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public Map<String, Object> process(JsonCommand command) {
+            try {
+                return this.commandMetrics.handle(this.action, this.entity, () -> this.delegate.process(command));
+            } catch (RuntimeException e) {
+                this.failures.increment();
+                throw e;
+            }
+        }
+
+    }
+
 }
@@ -20,7 +20,8 @@ import com.base.core.authentication.role.handler.RoleCommandHandler;
 import com.base.core.authentication.role.service.RoleService;
 import com.base.core.command.service.LogService;
 import com.base.core.pageable.PageableHateoasAssembler;
-import com.base.core.serializer.JsonSerializerImpl;
+import com.base.core.serializer.JsonBody;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -33,51 +34,48 @@ import org.springframework.web.bind.annotation.*;
 public class RoleController {
 
     private final PageableHateoasAssembler pageable;
-    private final JsonSerializerImpl<RoleDTO> serializer;
     private final RoleService roleService;
     private final LogService logService;
 
     @Autowired
     public RoleController(final PageableHateoasAssembler pageable,
-                          final JsonSerializerImpl<RoleDTO> serializer,
                           final RoleService roleService,
                           final LogService logService) {
         this.pageable = pageable;
-        this.serializer = serializer;
         this.roleService = roleService;
         this.logService = logService;
     }
 
     @PostMapping
-    public String createRole(@RequestBody String json) {
+    public JsonBody<Map<String, Object>> createRole(@RequestBody String json) {
 
         final var command = new RoleCommandHandler().create()
                 .json(json)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @PutMapping("/{id}")
-    public String updateRole(@PathVariable Long id,
-                             @RequestBody String json) {
+    public JsonBody<Map<String, Object>> updateRole(@PathVariable Long id,
+                                                    @RequestBody String json) {
 
         final var command = new RoleCommandHandler().update(id)
                 .json(json)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @DeleteMapping("/{id}")
-    public String deleteRole(@PathVariable Long id) {
+    public JsonBody<Map<String, Object>> deleteRole(@PathVariable Long id) {
         final var command = new RoleCommandHandler().delete(id)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping("/{id}")
@@ -24,6 +24,7 @@ import com.base.core.authentication.role.repository.RoleRepository;
 import com.base.core.authentication.role.validation.RoleDataValidator;
 import com.base.core.authentication.user.model.Authority;
 import com.base.core.authentication.user.repository.AuthorityRepository;
+import com.base.core.authentication.user.service.UserDetailsCache;
 import com.base.core.command.data.JsonCommand;
 import com.base.core.command.data.LogData;
 import com.base.core.exception.NotFoundException;
@@ -53,6 +54,7 @@ public class RoleServiceImpl implements RoleService {
     private final RoleDataValidator validator;
     private final RoleMapper roleMapper;
     private final SecurityContext securityContext;
+    private final UserDetailsCache userDetailsCache;
 
     @Autowired
     public RoleServiceImpl(final MessageSource messageSource,
@@ -60,20 +62,22 @@ public class RoleServiceImpl implements RoleService {
                            final AuthorityRepository authorityRepository,
                            final RoleDataValidator validator,
                            final RoleMapper roleMapper,
-                           final SecurityContext securityContext) {
+                           final SecurityContext securityContext,
+                           final UserDetailsCache userDetailsCache) {
         this.messageSource = messageSource;
         this.roleRepository = roleRepository;
         this.authorityRepository = authorityRepository;
         this.validator = validator;
         this.roleMapper = roleMapper;
         this.securityContext = securityContext;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
-    @CacheEvict(value = "roles", allEntries = true)
+    @CacheEvict(value = "roles", key = "T(com.base.config.cache.PageKey).ALL")
     public Map<String, Object> createRole(JsonCommand command) {
 
-        this.validator.create(command.getJson());
+        this.validator.create(command);
 
         final var name = command.extractString(RoleConstants.NAME);
         final var authorities = command.extractArrayAs(RoleConstants.AUTHORITIES, String.class);
@@ -98,19 +102,21 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
-    @CacheEvict(value = "roles", allEntries = true)
+    @CacheEvict(value = "roles", key = "#id")
     public Map<String, Object> updateRole(Long id,
                                           JsonCommand command) {
 
         var exist = this.roleRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found.role", id));
 
-        this.validator.update(command.getJson());
+        this.validator.update(command);
 
         var changes = exist.changed(command, authorityRepository);
         if (!changes.isEmpty()) {
             if (changes.containsKey(RoleConstants.AUTHORITIES)) {
                 this.securityContext.forceLogout(exist.getId());
+            } else if (changes.containsKey(RoleConstants.NAME)) {
+                this.userDetailsCache.evictAll();
             }
             this.roleRepository.save(exist);
         }
@@ -124,7 +130,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
-    @CacheEvict(value = "roles", allEntries = true)
+    @CacheEvict(value = "roles", key = "#id")
     public Map<String, Object> deleteRole(Long id) {
 
         final var role = this.roleRepository.findById(id)
@@ -141,7 +147,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
-    @Cacheable(value = "roles", key = "#id")
+    @Cacheable(value = "roles", key = "#id", sync = true)
     public RoleDTO getRoleById(Long id) {
 
         var role = this.roleRepository.findById(id)
@@ -151,7 +157,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
-    @Cacheable(value = "roles", key = "#page + '-' + #size + '-' + #search")
+    @Cacheable(value = "roles", key = "T(com.base.config.cache.PageKey).of(#page, #size, #search)", sync = true)
     public Page<RoleDTO> listRoles(Integer page,
                                    Integer size,
                                    String search) {
@@ -17,9 +17,8 @@ package com.base.core.authentication.role.validation;
 
 import com.base.config.serialization.JsonHelper;
 import com.base.core.authentication.role.controller.RoleConstants;
+import com.base.core.command.data.JsonCommand;
 import com.base.core.exception.ApiDataValidator;
-import com.google.gson.reflect.TypeToken;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -39,13 +38,9 @@ public class RoleDataValidator {
         this.validator = validator;
     }
 
-    public void create(String json) {
-
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, RoleConstants.SUPPORTED_PARAMETER);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void create(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, RoleConstants.SUPPORTED_PARAMETER);
 
         final var name = this.jsonHelper.extractString(RoleConstants.NAME, jsonElement);
         validator.parameter(RoleConstants.NAME, name)
@@ -54,13 +49,9 @@ public class RoleDataValidator {
                 .maxLength(2);
     }
 
-    public void update(String json) {
-
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, RoleConstants.SUPPORTED_PARAMETER);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void update(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, RoleConstants.SUPPORTED_PARAMETER);
 
         if (this.jsonHelper.parameterExists(RoleConstants.NAME, jsonElement)) {
             final var name = this.jsonHelper.extractString(RoleConstants.NAME, jsonElement);
@@ -38,6 +38,9 @@ public class UserConstants {
     public static final String IS_ACCOUNT_NON_EXPIRED = "accountNonExpired";
     public static final String IS_ACCOUNT_NON_LOCKED = "accountNonLocked";
     public static final String IS_CREDENTIALS_NON_EXPIRED = "credentialsNonExpired";
+    public static final String ACCOUNT_NON_EXPIRED_CLAIM = "account_non_expired";
+    public static final String ACCOUNT_NON_LOCKED_CLAIM = "account_non_locked";
+    public static final String CREDENTIALS_NON_EXPIRED_CLAIM = "credentials_non_expired";
     public static final Collection<String> SUPPORTED_PARAMETER = new HashSet<>(Arrays
             .asList(USERNAME, PASSWORD, NAME, EMAIL, ROLES, AUTHORITIES, ENABLED, AUTHENTICATED, IS_ACCOUNT_NON_EXPIRED, IS_ACCOUNT_NON_LOCKED, IS_CREDENTIALS_NON_EXPIRED));
 
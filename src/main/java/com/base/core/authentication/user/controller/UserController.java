@@ -20,7 +20,8 @@ import com.base.core.authentication.user.handler.UserCommandBuilder;
 import com.base.core.authentication.user.service.UserService;
 import com.base.core.command.service.LogService;
 import com.base.core.pageable.PageableHateoasAssembler;
-import com.base.core.serializer.JsonSerializerImpl;
+import com.base.core.serializer.JsonBody;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -33,30 +34,27 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final PageableHateoasAssembler pageable;
-    private final JsonSerializerImpl<UserDTO> serializer;
     private final UserService userService;
     private final LogService logService;
 
     @Autowired
     public UserController(final PageableHateoasAssembler pageable,
-                          final JsonSerializerImpl<UserDTO> serializer,
                           final UserService userService,
                           final LogService logService) {
         this.pageable = pageable;
-        this.serializer = serializer;
         this.userService = userService;
         this.logService = logService;
     }
 
     @PostMapping
-    public String createUser(@RequestBody String json) {
+    public JsonBody<Map<String, Object>> createUser(@RequestBody String json) {
 
         final var command = new UserCommandBuilder().create()
                 .json(json)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping("/{id}")
@@ -76,23 +74,23 @@ public class UserController {
     }
 
     @PutMapping("/{id}")
-    public String updateUser(@PathVariable Long id,
-                             @RequestBody String json) {
+    public JsonBody<Map<String, Object>> updateUser(@PathVariable Long id,
+                                                    @RequestBody String json) {
         final var command = new UserCommandBuilder().update(id)
                 .json(json)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @DeleteMapping("/{id}")
-    public String deleteUser(@PathVariable Long id) {
+    public JsonBody<Map<String, Object>> deleteUser(@PathVariable Long id) {
         final var command = new UserCommandBuilder().delete(id)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
 }
@@ -86,15 +86,15 @@ public class UserInfoData implements StandardClaimAccessor, Serializable {
         }
 
         public Builder isAccountNonExpired(boolean isAccountNonExpired) {
-            return this.claim(UserConstants.IS_ACCOUNT_NON_EXPIRED, isAccountNonExpired);
+            return this.claim(UserConstants.ACCOUNT_NON_EXPIRED_CLAIM, isAccountNonExpired);
         }
 
         public Builder isAccountNonLocked(boolean isAccountNonLocked) {
-            return this.claim(UserConstants.IS_ACCOUNT_NON_LOCKED, isAccountNonLocked);
+            return this.claim(UserConstants.ACCOUNT_NON_LOCKED_CLAIM, isAccountNonLocked);
         }
 
         public Builder isCredentialsNonExpired(boolean isCredentialsNonExpired) {
-            return this.claim(UserConstants.IS_CREDENTIALS_NON_EXPIRED, isCredentialsNonExpired);
+            return this.claim(UserConstants.CREDENTIALS_NON_EXPIRED_CLAIM, isCredentialsNonExpired);
         }
 
         public Builder claim(String name,
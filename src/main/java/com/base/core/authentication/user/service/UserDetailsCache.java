@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.authentication.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Principal cache of immutable, authority-flattened {@link UserDetails} snapshots keyed by username.
+ * <p>
+ * Entries are evicted by the same events that force a logout (password, role and authority changes, user and role
+ * deletion). Inside a transaction they run after commit, so a login racing the write cannot cache the old
+ * snapshot again. The write expiry is only a backstop for changes made outside the application.
+ * <p>
+ * When {@code spring.redis.enabled} is set, evictions are also published on {@value #CHANNEL} and every node applies
+ * them to its own cache, so a change made on one node stops the old password and authorities on all of them. An empty
+ * message clears the whole cache.
+ *
+ * @author YISivlay
+ */
+@Component
+public class UserDetailsCache implements SmartLifecycle {
+
+    static final String CHANNEL = "security:user-details:evict";
+
+    private final Logger logger = LoggerFactory.getLogger(UserDetailsCache.class);
+
+    private final Cache<String, UserDetails> cache;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    public UserDetailsCache(@Value("${security.user-details-cache.maximum-size:10000}") final long maximumSize,
+                            @Value("${security.user-details-cache.expire-after-write:10m}") final Duration expireAfterWrite,
+                            final Environment env,
+                            final ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                            final ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        var useRedis = Boolean.parseBoolean(env.getProperty("spring.redis.enabled", "false"));
+        var connectionFactory = useRedis
+                ? redisConnectionFactory.getIfAvailable()
+                : null;
+        if (connectionFactory != null) {
+            this.redisTemplate = redisTemplate.getIfAvailable();
+            this.listenerContainer = new RedisMessageListenerContainer();
+            this.listenerContainer.setConnectionFactory(connectionFactory);
+            this.listenerContainer.addMessageListener((message, _) -> invalidateLocally(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+        } else {
+            this.redisTemplate = null;
+            this.listenerContainer = null;
+        }
+    }
+
+    public UserDetails get(String username,
+                           Function<String, UserDetails> loader) {
+        return this.cache.get(username, loader);
+    }
+
+    public void evict(String username) {
+        if (username != null) {
+            afterCommit(() -> {
+                this.cache.invalidate(username);
+                publish(username);
+            });
+        }
+    }
+
+    public void evictAll(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        var snapshot = List.copyOf(usernames);
+        afterCommit(() -> {
+            this.cache.invalidateAll(snapshot);
+            publish(String.join("\n", snapshot));
+        });
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            this.cache.invalidateAll();
+            publish("");
+        });
+    }
+
+    private void publish(String message) {
+        if (this.redisTemplate == null) {
+            return;
+        }
+        try {
+            this.redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            logger.warn("Could not publish user details eviction; other nodes rely on expire-after-write", e);
+        }
+    }
+
+    private void invalidateLocally(String message) {
+        if (message.isEmpty()) {
+            this.cache.invalidateAll();
+        } else {
+            this.cache.invalidateAll(Arrays.asList(message.split("\n")));
+        }
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (this.listenerContainer != null) {
+            this.listenerContainer.afterPropertiesSet();
+            this.listenerContainer.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (this.listenerContainer != null) {
+            this.listenerContainer.stop();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.listenerContainer != null && this.listenerContainer.isRunning();
+    }
+
+}
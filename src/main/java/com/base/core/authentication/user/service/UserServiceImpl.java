@@ -71,9 +71,9 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @CacheEvict(value = "users", allEntries = true)
+    @CacheEvict(value = "users", key = "T(com.base.config.cache.PageKey).ALL")
     public Map<String, Object> createUser(JsonCommand command) {
-        this.validation.create(command.getJson());
+        this.validation.create(command);
 
         final var username = command.extractString(UserConstants.USERNAME);
 
@@ -92,7 +92,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Cacheable(value = "users", key = "#id")
+    @Cacheable(value = "users", key = "#id", sync = true)
     public UserDTO getUserById(Long id) {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found.user", id));
@@ -100,7 +100,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Cacheable(value = "users", key = "#page + '-' + #size + '-' + #search")
+    @Cacheable(value = "users", key = "T(com.base.config.cache.PageKey).of(#page, #size, #search, @securityContextImpl.isAdmin() ? 'all' : 'enabled')", sync = true)
     public Page<UserDTO> listUsers(Integer page,
                                    Integer size,
                                    String search) {
@@ -132,24 +132,28 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @CacheEvict(value = "users", allEntries = true)
+    @CacheEvict(value = "users", key = "#id")
     public Map<String, Object> updateUser(Long id,
                                           JsonCommand command) {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found.user", id));
 
-        this.validation.update(command.getJson());
+        this.validation.update(command);
 
         final var username = command.extractString(UserConstants.USERNAME);
         if (!user.getUsername()
                 .equals(username) && userRepository.existsByUsername(username)) {
             throw new ErrorException("msg.username.exist", username);
         }
+        final var previousUsername = user.getUsername();
         var changes = user.changed(this.passwordEncoder, this.roleRepository, command);
         if (!changes.isEmpty()) {
             if (changes.containsKey(UserConstants.PASSWORD) || changes.containsKey(UserConstants.ROLES) || changes.containsKey(UserConstants.AUTHORITIES)) {
                 securityContext.forceLogout(user.getUsername());
             }
+            if (changes.containsKey(UserConstants.USERNAME)) {
+                securityContext.forceLogout(previousUsername);
+            }
             userRepository.save(user);
         }
         return LogData.builder()
@@ -161,7 +165,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @CacheEvict(value = "users", allEntries = true)
+    @CacheEvict(value = "users", key = "#id")
     public Map<String, Object> deleteUser(Long id) {
 
         var user = userRepository.findById(id)
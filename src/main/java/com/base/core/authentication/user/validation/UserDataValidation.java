@@ -17,9 +17,8 @@ package com.base.core.authentication.user.validation;
 
 import com.base.config.serialization.JsonHelper;
 import com.base.core.authentication.user.controller.UserConstants;
+import com.base.core.command.data.JsonCommand;
 import com.base.core.exception.ApiDataValidator;
-import com.google.gson.reflect.TypeToken;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -39,12 +38,9 @@ public class UserDataValidation {
         this.validator = validator;
     }
 
-    public void create(String json) {
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, UserConstants.SUPPORTED_PARAMETER);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void create(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, UserConstants.SUPPORTED_PARAMETER);
 
         final var username = this.jsonHelper.extractString(UserConstants.USERNAME, jsonElement);
         validator.parameter(UserConstants.USERNAME, username)
@@ -85,12 +81,9 @@ public class UserDataValidation {
         }
     }
 
-    public void update(String json) {
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, UserConstants.SUPPORTED_PARAMETER);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void update(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, UserConstants.SUPPORTED_PARAMETER);
 
         if (this.jsonHelper.parameterExists(UserConstants.USERNAME, jsonElement)) {
             final var username = this.jsonHelper.extractString(UserConstants.USERNAME, jsonElement);
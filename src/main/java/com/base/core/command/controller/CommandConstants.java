@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.controller;
+
+/**
+ * @author YISivlay
+ */
+public class CommandConstants {
+
+    public static final String API_PATH = "/commands";
+    public static final String BATCH = "/batch";
+    public static final String ACTION = "action";
+    public static final String ENTITY = "entity";
+    public static final String ID = "id";
+    public static final String BODY = "body";
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.controller;
+
+import com.base.config.serialization.JsonHelper;
+import com.base.core.command.data.Command;
+import com.base.core.command.data.CommandBuilder;
+import com.base.core.command.service.CommandBatchService;
+import com.base.core.exception.ErrorException;
+import com.base.core.serializer.JsonBody;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Accepts an array of {@code {"action", "entity", "id", "body"}} commands and dispatches each to the same handler its
+ * single-entity endpoint uses. The response lists one result per command, in request order.
+ *
+ * @author YISivlay
+ */
+@RestController
+@RequestMapping(CommandConstants.API_PATH)
+public class CommandController {
+
+    private final JsonHelper jsonHelper;
+    private final CommandBatchService service;
+
+    @Autowired
+    public CommandController(final JsonHelper jsonHelper,
+                             final CommandBatchService service) {
+        this.jsonHelper = jsonHelper;
+        this.service = service;
+    }
+
+    @PostMapping(value = CommandConstants.BATCH, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public JsonBody<List<Map<String, Object>>> batch(@RequestBody String json) {
+        final var element = this.jsonHelper.parse(json);
+        if (element == null || !element.isJsonArray()) {
+            throw new ErrorException("validation.json.invalid");
+        }
+        List<Command> commands = new ArrayList<>(element.getAsJsonArray()
+                .size());
+        for (var item : element.getAsJsonArray()) {
+            if (!item.isJsonObject()) {
+                throw new ErrorException("validation.json.invalid");
+            }
+            final var body = this.jsonHelper.extractJsonElement(CommandConstants.BODY, item);
+            commands.add(new CommandBuilder().action(this.jsonHelper.extractString(CommandConstants.ACTION, item))
+                    .entity(this.jsonHelper.extractString(CommandConstants.ENTITY, item))
+                    .id(this.jsonHelper.extractLong(CommandConstants.ID, item))
+                    .href(CommandConstants.API_PATH + CommandConstants.BATCH)
+                    .json(body == null
+                            ? null
+                            : body.toString())
+                    .build());
+        }
+        final var data = this.service.process(commands);
+        return JsonBody.of(data);
+    }
+
+}
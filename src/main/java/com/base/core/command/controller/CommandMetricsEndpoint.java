@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.controller;
+
+import com.base.core.command.service.CommandMetrics;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/commands}: the slowest command types by handler p99, with count, mean, p50, p99 and max in
+ * milliseconds.
+ *
+ * @author YISivlay
+ */
+@Component
+@Endpoint(id = "commands")
+public class CommandMetricsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final CommandMetrics commandMetrics;
+
+    @Autowired
+    public CommandMetricsEndpoint(final CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> slowest(@Nullable Integer limit) {
+        return this.commandMetrics.slowest(limit == null
+                ? DEFAULT_LIMIT
+                : limit);
+    }
+
+}
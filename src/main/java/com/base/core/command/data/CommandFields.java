@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.data;
+
+import com.google.gson.JsonElement;
+import org.springframework.util.StringUtils;
+
+/**
+ * Value conversions and change checks used by the typed command payloads (e.g. {@code OfficeCommandData}), which read
+ * every field of a {@link JsonCommand} in a single pass. Conversions follow {@code JsonDelegator}: blank or non
+ * primitive values read as {@code null}.
+ *
+ * @author YISivlay
+ */
+public final class CommandFields {
+
+    private CommandFields() {
+    }
+
+    public static String asString(final JsonElement element) {
+        if (element != null && element.isJsonPrimitive()) {
+            final var value = element.getAsString();
+            if (StringUtils.hasText(value)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public static Long asLong(final JsonElement element) {
+        final var value = asString(element);
+        return value == null
+                ? null
+                : Long.valueOf(value);
+    }
+
+    /** Same rule as {@link JsonCommand#isChangeAsString(String, String)} */
+    public static boolean isChange(final String value,
+                                   final String existing) {
+        return value != null && !value.equals(existing);
+    }
+
+    /** Same rule as {@link JsonCommand#isChangeAsLong(String, Long)} */
+    public static boolean isChange(final Long value,
+                                   final Long existing) {
+        return value != null && existing != null && !value.equals(existing);
+    }
+
+}
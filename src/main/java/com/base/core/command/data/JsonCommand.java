@@ -21,8 +21,10 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
@@ -151,6 +153,19 @@ public final class JsonCommand {
         this.jsonDelegator = builder.jsonDelegator;
     }
 
+    /** Top-level fields of the request body, for payloads that bind every field in one pass */
+    public Set<Map.Entry<String, JsonElement>> entries() {
+        if (this.jsonElement != null && this.jsonElement.isJsonObject()) {
+            return this.jsonElement.getAsJsonObject()
+                    .entrySet();
+        }
+        return Collections.emptySet();
+    }
+
+    public boolean hasParameter(String parameter) {
+        return this.jsonDelegator.hasParameter(this.jsonElement, parameter);
+    }
+
     public Long extractLong(String parameter) {
         return this.jsonDelegator.extractLong(parameter, this.jsonElement);
     }
@@ -212,7 +227,7 @@ public final class JsonCommand {
 
     public boolean isChangeAsString(String parameter,
                                     String existing) {
-        if (this.jsonDelegator.hasParameter(this.json, parameter)) {
+        if (hasParameter(parameter)) {
             var value = this.extractString(parameter);
             return value != null && !value.equals(existing);
         }
@@ -222,7 +237,7 @@ public final class JsonCommand {
     public boolean isChangePassword(String parameter,
                                     PasswordEncoder passwordEncoder,
                                     String existing) {
-        if (this.jsonDelegator.hasParameter(this.json, parameter)) {
+        if (hasParameter(parameter)) {
             var value = this.extractString(parameter);
             return value != null && existing != null && !passwordEncoder.matches(value, existing);
         }
@@ -231,7 +246,7 @@ public final class JsonCommand {
 
     public boolean isChangeAsLong(String parameter,
                                   Long existing) {
-        if (this.jsonDelegator.hasParameter(this.json, parameter)) {
+        if (hasParameter(parameter)) {
             var value = this.extractLong(parameter);
             return value != null && existing != null && !value.equals(existing);
         }
@@ -240,7 +255,7 @@ public final class JsonCommand {
 
     public boolean isChangeAsBigDecimal(String parameter,
                                         BigDecimal existing) {
-        if (this.jsonDelegator.hasParameter(this.json, parameter)) {
+        if (hasParameter(parameter)) {
             var value = this.extractBigDecimal(parameter);
             return value != null && existing != null && value.compareTo(existing) != 0;
         }
@@ -249,7 +264,7 @@ public final class JsonCommand {
 
     public boolean isChangeAsBoolean(String parameter,
                                      Boolean existing) {
-        if (this.jsonDelegator.hasParameter(this.json, parameter)) {
+        if (hasParameter(parameter)) {
             var value = this.extractBoolean(parameter);
             return value != null && existing != null && !value.equals(existing);
         }
@@ -258,7 +273,7 @@ public final class JsonCommand {
 
     public boolean isChangeAsInteger(String parameter,
                                      Integer existing) {
-        if (this.jsonDelegator.hasParameter(this.json, parameter)) {
+        if (hasParameter(parameter)) {
             var value = this.extractInteger(parameter);
             return value != null && existing != null && !value.equals(existing);
         }
@@ -267,7 +282,7 @@ public final class JsonCommand {
 
     public boolean isChangeAsDouble(String parameter,
                                     Double existing) {
-        if (this.jsonDelegator.hasParameter(this.json, parameter)) {
+        if (hasParameter(parameter)) {
             var value = this.extractDouble(parameter);
             return value != null && existing != null && !value.equals(existing);
         }
@@ -276,7 +291,7 @@ public final class JsonCommand {
 
     public boolean isChangeAsFloat(String parameter,
                                    Float existing) {
-        if (this.jsonDelegator.hasParameter(this.json, parameter)) {
+        if (hasParameter(parameter)) {
             var value = this.extractFloat(parameter);
             return value != null && existing != null && !value.equals(existing);
         }
@@ -286,7 +301,7 @@ public final class JsonCommand {
     public <T> boolean isChangeAsArray(String parameter,
                                        Collection<T> existing,
                                        Class<T> type) {
-        if (!jsonDelegator.hasParameter(this.json, parameter)) {
+        if (!hasParameter(parameter)) {
             return false;
         }
         var extracted = this.extractArrayAs(parameter, type);
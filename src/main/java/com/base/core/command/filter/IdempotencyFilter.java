@@ -0,0 +1,310 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.filter;
+
+import com.base.core.command.service.IdempotencyStore;
+import com.base.core.command.service.IdempotencyStore.StoredResponse;
+import com.base.utils.DigestUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Honors the {@value #HEADER} header on write requests from authenticated users. The first request with a given key
+ * runs normally and its response, headers included, is kept in {@link IdempotencyStore} with a digest of the request
+ * body; later requests with the same key, user, method and path get that response replayed without running the command
+ * again. A duplicate that arrives while the first is still running waits for it instead of executing. A key reused with
+ * a different body is rejected with 422.
+ * <p>
+ * Server errors (5xx) are not stored, so a retry after one runs the command again. Anonymous requests are passed
+ * through, since there is no principal to scope their keys to.
+ *
+ * @author YISivlay
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    /** Headers the container or the replay sets itself, or that must not be handed to another request */
+    private static final Set<String> UNREPLAYED_HEADERS = Set.of("content-type", "content-length", "transfer-encoding", "date", "set-cookie", REPLAYED_HEADER.toLowerCase());
+
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final IdempotencyStore store;
+    private final Duration waitTimeout;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotencyFilter(final IdempotencyStore store,
+                             @Value("${idempotency.wait-timeout:30s}") final Duration waitTimeout) {
+        this.store = store;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !WRITE_METHODS.contains(request.getMethod()) || !StringUtils.hasText(request.getHeader(HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var authentication = SecurityContextHolder.getContext()
+                .getAuthentication();
+        if (!this.trustResolver.isAuthenticated(authentication)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        var key = authentication.getName() + "|" + request.getMethod() + "|" + request.getRequestURI() + "|" + request.getHeader(HEADER);
+
+        var readable = request;
+        byte[] body = null;
+        if (!isParsedByContainer(request)) {
+            body = request.getInputStream()
+                    .readAllBytes();
+            readable = new CachedBodyRequest(request, body);
+        }
+        var requestHash = requestHash(request, body);
+
+        var stored = this.store.get(key);
+        if (stored != null) {
+            replay(response, stored, requestHash);
+            return;
+        }
+
+        var execution = new CompletableFuture<StoredResponse>();
+        var running = this.inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            replay(response, await(running), requestHash);
+            return;
+        }
+
+        StoredResponse result = null;
+        try {
+            stored = this.store.get(key);
+            if (stored != null) {
+                result = stored;
+                replay(response, stored, requestHash);
+                return;
+            }
+            var wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(readable, wrapper);
+            var executed = new StoredResponse(wrapper.getStatus(), wrapper.getContentType(), replayedHeaders(wrapper), requestHash, wrapper.getContentAsByteArray());
+            if (executed.status() < 500) {
+                this.store.put(key, executed);
+                result = executed;
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            execution.complete(result);
+            this.inFlight.remove(key, execution);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(this.waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private static void replay(HttpServletResponse response,
+                               StoredResponse stored,
+                               String requestHash) throws IOException {
+        if (stored == null) {
+            response.setStatus(HttpStatus.CONFLICT.value());
+            return;
+        }
+        if (!stored.requestHash()
+                .equals(requestHash)) {
+            response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+            return;
+        }
+        response.setStatus(stored.status());
+        stored.headers()
+                .forEach((name, values) -> {
+                    response.setHeader(name, values.getFirst());
+                    values.stream()
+                            .skip(1)
+                            .forEach(value -> response.addHeader(name, value));
+                });
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream()
+                .write(stored.body());
+    }
+
+    private static Map<String, List<String>> replayedHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (var name : response.getHeaderNames()) {
+            if (!UNREPLAYED_HEADERS.contains(name.toLowerCase())) {
+                headers.putIfAbsent(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    /** Form and multipart bodies are read by the container when parameters or parts are asked for, not by the handler */
+    private static boolean isParsedByContainer(HttpServletRequest request) {
+        return isMultipart(request) || hasContentType(request, "application/x-www-form-urlencoded");
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        return hasContentType(request, "multipart/");
+    }
+
+    private static boolean hasContentType(HttpServletRequest request,
+                                          String prefix) {
+        var contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase()
+                .startsWith(prefix);
+    }
+
+    private static String requestHash(HttpServletRequest request,
+                                      byte[] body) throws IOException, ServletException {
+        var digest = DigestUtils.sha256();
+        if (body != null) {
+            digest.update(body);
+        } else if (isMultipart(request)) {
+            for (var part : request.getParts()) {
+                digest.update((part.getName() + "|" + part.getSubmittedFileName() + "|").getBytes(StandardCharsets.UTF_8));
+                try (var content = part.getInputStream()) {
+                    digest.update(content.readAllBytes());
+                }
+            }
+        } else {
+            new TreeMap<>(request.getParameterMap()).forEach((name, values) -> digest.update((name + "=" + String.join(",", values) + "&")
+                    .getBytes(StandardCharsets.UTF_8)));
+        }
+        return DigestUtils.encode(digest.digest());
+    }
+
+    /** Serves a body already read for hashing to the rest of the chain */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request,
+                                  byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var content = new ByteArrayInputStream(this.body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return content.read();
+                }
+
+                @Override
+                public int read(byte[] b,
+                                int off,
+                                int len) {
+                    return content.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return content.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /** The body is already in memory, so it is all available and all read at once */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding == null
+                    ? StandardCharsets.UTF_8
+                    : Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return this.body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return this.body.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.service;
+
+import com.base.core.command.model.Logs;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes command audit records to the {@code logs} table.
+ * <p>
+ * In {@link Mode#SYNC}, the default, the record is inserted with plain JDBC inside the caller's transaction, so it commits or rolls
+ * back with the business write. In {@link Mode#OUTBOX} the record is queued after the transaction commits and a
+ * background virtual thread flushes the queue with JDBC batch inserts; a rolled-back command is never audited, and
+ * records still queued when the process dies are lost. When the queue is full the record is inserted on the calling
+ * thread instead.
+ * <p>
+ * Exposes {@code audit.log.queue.depth}, {@code audit.log.flush} (batch latency), {@code audit.log.overflow} and
+ * {@code audit.log.dropped} (records lost to a failed flush).
+ *
+ * @author YISivlay
+ */
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final String INSERT = """
+            INSERT INTO logs (entity_id, action, entity, href, json, created_by, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    public enum Mode {
+        SYNC,
+        OUTBOX
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Mode mode;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final BlockingQueue<Logs> queue;
+    private final Timer flush;
+    private final Counter overflow;
+    private final Counter dropped;
+    private volatile Thread flusher;
+    private volatile boolean running;
+
+    @Autowired
+    public AuditLogWriter(final JdbcTemplate jdbcTemplate,
+                          final MeterRegistry meterRegistry,
+                          @Value("${audit-log.mode:SYNC}") final Mode mode,
+                          @Value("${audit-log.queue-capacity:10000}") final int queueCapacity,
+                          @Value("${audit-log.batch-size:500}") final int batchSize,
+                          @Value("${audit-log.flush-interval:200ms}") final Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("audit.log.queue.depth", this.queue, BlockingQueue::size)
+                .description("Audit records waiting to be flushed")
+                .register(meterRegistry);
+        this.flush = Timer.builder("audit.log.flush")
+                .description("Time spent writing one batch of audit records")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("audit.log.overflow")
+                .description("Audit records written on the caller thread because the queue was full")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.log.dropped")
+                .description("Audit records lost because a batch insert failed")
+                .register(meterRegistry);
+    }
+
+    public void write(Logs log) {
+        if (this.mode == Mode.SYNC) {
+            insert(List.of(log));
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(log);
+                }
+            });
+        } else {
+            enqueue(log);
+        }
+    }
+
+    private void enqueue(Logs log) {
+        if (this.running && this.queue.offer(log)) {
+            return;
+        }
+        this.overflow.increment();
+        try {
+            insert(List.of(log));
+        } catch (RuntimeException e) {
+            this.dropped.increment();
+            logger.error("Unable to write audit record for {} {}", log.getAction(), log.getEntity(), e);
+        }
+    }
+
+    private void drain() {
+        List<Logs> batch = new ArrayList<>(this.batchSize);
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                var first = this.queue.poll(this.flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                this.queue.drainTo(batch, this.batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                        .interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Logs> batch) {
+        var sample = Timer.start();
+        try {
+            insert(batch);
+        } catch (RuntimeException e) {
+            this.dropped.increment(batch.size());
+            logger.error("Unable to write {} audit record(s)", batch.size(), e);
+        } finally {
+            sample.stop(this.flush);
+        }
+    }
+
+    private void insert(List<Logs> logs) {
+        this.jdbcTemplate.batchUpdate(INSERT, logs, logs.size(), (ps,
+                                                                   log) -> {
+            ps.setObject(1, log.getEntityId());
+            ps.setString(2, log.getAction());
+            ps.setString(3, log.getEntity());
+            ps.setString(4, log.getHref());
+            ps.setString(5, log.getJson());
+            ps.setString(6, log.getCreatedBy());
+            ps.setTimestamp(7, new Timestamp(log.getCreatedAt()
+                    .getTime()));
+        });
+    }
+
+    @Override
+    public void start() {
+        this.running = true;
+        if (this.mode == Mode.OUTBOX) {
+            this.flusher = Thread.ofVirtual()
+                    .name("audit-log")
+                    .start(this::drain);
+        }
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+        var thread = this.flusher;
+        if (thread != null) {
+            try {
+                thread.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                        .interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+}
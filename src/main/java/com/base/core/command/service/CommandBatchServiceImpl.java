@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.service;
+
+import com.base.config.cache.CacheEvictionBatch;
+import com.base.core.command.data.Command;
+import com.base.core.exception.ErrorException;
+import com.base.core.exception.NotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a list of commands through {@link LogService} in chunks. Each chunk is one transaction, and caches cleared by
+ * its commands are cleared once when the chunk ends. If a chunk fails it is rolled back and replayed one command per
+ * transaction, so the failing commands are reported and the rest still apply.
+ *
+ * @author YISivlay
+ */
+@Service
+public class CommandBatchServiceImpl implements CommandBatchService {
+
+    private final LogService logService;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageSource messageSource;
+    private final int chunkSize;
+    private final int maxSize;
+
+    @Autowired
+    public CommandBatchServiceImpl(final LogService logService,
+                                   final PlatformTransactionManager transactionManager,
+                                   final MessageSource messageSource,
+                                   @Value("${command.batch.chunk-size:100}") final int chunkSize,
+                                   @Value("${command.batch.max-size:10000}") final int maxSize) {
+        this.logService = logService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.messageSource = messageSource;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public List<Map<String, Object>> process(List<Command> commands) {
+        if (commands.size() > this.maxSize) {
+            throw new ErrorException("validation.batch.too.large", this.maxSize);
+        }
+        List<Map<String, Object>> results = new ArrayList<>(commands.size());
+        for (int from = 0; from < commands.size(); from += this.chunkSize) {
+            var chunk = commands.subList(from, Math.min(from + this.chunkSize, commands.size()));
+            results.addAll(processChunk(from, chunk));
+        }
+        return results;
+    }
+
+    private List<Map<String, Object>> processChunk(int offset,
+                                                   List<Command> chunk) {
+        try {
+            return CacheEvictionBatch.run(() -> this.transactionTemplate.execute(_ -> {
+                List<Map<String, Object>> results = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(success(offset + i, this.logService.log(chunk.get(i))));
+                }
+                return results;
+            }));
+        } catch (RuntimeException e) {
+            return CacheEvictionBatch.run(() -> {
+                List<Map<String, Object>> results = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    var command = chunk.get(i);
+                    try {
+                        results.add(success(offset + i, this.transactionTemplate.execute(_ -> this.logService.log(command))));
+                    } catch (RuntimeException failure) {
+                        results.add(failure(offset + i, failure));
+                    }
+                }
+                return results;
+            });
+        }
+    }
+
+    private static Map<String, Object> success(int index,
+                                               Map<String, Object> data) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("index", index);
+        result.put("status", HttpStatus.OK.value());
+        result.put("data", data);
+        return result;
+    }
+
+    private Map<String, Object> failure(int index,
+                                        RuntimeException e) {
+        var status = HttpStatus.INTERNAL_SERVER_ERROR;
+        Object[] args = null;
+        if (e instanceof ErrorException error) {
+            status = error.getStatus();
+            args = error.getArgs();
+        } else if (e instanceof NotFoundException notFound) {
+            status = HttpStatus.NOT_FOUND;
+            args = notFound.getArgs();
+        } else if (e instanceof AuthorizationDeniedException) {
+            status = HttpStatus.FORBIDDEN;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("index", index);
+        result.put("status", status.value());
+        result.put("error", e.getMessage());
+        result.put("message", this.messageSource.getMessage(String.valueOf(e.getMessage()), args, e.getMessage(), LocaleContextHolder.getLocale()));
+        return result;
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-command, per-phase {@code command.phase} timers tagged by action, entity and phase, with p50/p99 and a percentile
+ * histogram published for scraping.
+ * <p>
+ * The command running on the current thread is tracked while its handler executes, so phases that only see a cache or
+ * a connection (such as {@link Phase#CACHE_EVICT}) can still be attributed to it.
+ *
+ * @author YISivlay
+ */
+@Component
+public class CommandMetrics {
+
+    public enum Phase {
+        PARSE,
+        VALIDATE,
+        HANDLER,
+        AUDIT,
+        CACHE_EVICT;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Command(String action, String entity) {
+    }
+
+    private record PhaseKey(String action, String entity, Phase phase) {
+    }
+
+    private static final ThreadLocal<Command> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<PhaseKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CommandMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer timer(String action,
+                       String entity,
+                       Phase phase) {
+        return this.timers.computeIfAbsent(new PhaseKey(action, entity, phase), key -> Timer.builder("command.phase")
+                .description("Time spent in one phase of a write command")
+                .tag("action", key.action())
+                .tag("entity", key.entity())
+                .tag("phase", key.phase()
+                        .tag())
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry));
+    }
+
+    public <T> T record(String action,
+                        String entity,
+                        Phase phase,
+                        Supplier<T> supplier) {
+        var sample = Timer.start();
+        try {
+            return supplier.get();
+        } finally {
+            sample.stop(timer(action, entity, phase));
+        }
+    }
+
+    public void record(String action,
+                       String entity,
+                       Phase phase,
+                       Runnable runnable) {
+        var sample = Timer.start();
+        try {
+            runnable.run();
+        } finally {
+            sample.stop(timer(action, entity, phase));
+        }
+    }
+
+    /**
+     * Runs {@code supplier} as the current command of this thread, timing it as {@link Phase#HANDLER}.
+     */
+    public <T> T handle(String action,
+                        String entity,
+                        Supplier<T> supplier) {
+        var previous = CURRENT.get();
+        CURRENT.set(new Command(action, entity));
+        try {
+            return record(action, entity, Phase.HANDLER, supplier);
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Records {@code nanos} against the command running on this thread, if any.
+     */
+    public void recordCurrent(Phase phase,
+                              long nanos) {
+        var command = CURRENT.get();
+        if (command != null) {
+            timer(command.action(), command.entity(), phase).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The {@code limit} command types with the highest handler p99, slowest first.
+     */
+    public List<Map<String, Object>> slowest(int limit) {
+        return this.timers.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey()
+                        .phase() == Phase.HANDLER)
+                .map(entry -> summary(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble((Map<String, Object> summary) -> (double) summary.get("p99"))
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static Map<String, Object> summary(PhaseKey key,
+                                               Timer timer) {
+        var snapshot = timer.takeSnapshot();
+        var p50 = 0.0;
+        var p99 = 0.0;
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            if (percentile.percentile() == 0.5) {
+                p50 = percentile.value(TimeUnit.MILLISECONDS);
+            } else if (percentile.percentile() == 0.99) {
+                p99 = percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("command", key.action() + "|" + key.entity());
+        summary.put("count", snapshot.count());
+        summary.put("mean", snapshot.mean(TimeUnit.MILLISECONDS));
+        summary.put("p50", p50);
+        summary.put("p99", p99);
+        summary.put("max", snapshot.max(TimeUnit.MILLISECONDS));
+        return summary;
+    }
+
+}
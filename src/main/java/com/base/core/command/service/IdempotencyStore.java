@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.service;
+
+import com.base.utils.DigestUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL'd store of responses to write commands, keyed by the caller's {@code Idempotency-Key}. Responses are
+ * kept in Caffeine, or in Redis under {@value #PREFIX} when {@code spring.redis.enabled} is set so every node sees them.
+ *
+ * @author YISivlay
+ */
+@Component
+public class IdempotencyStore {
+
+    static final String PREFIX = "idempotency:";
+
+    /**
+     * A stored response with the headers to replay and {@code requestHash}, the digest of the request body that produced
+     * it, so a key reused for a different request can be told apart from a retry.
+     */
+    public record StoredResponse(int status, String contentType, Map<String, List<String>> headers, String requestHash, byte[] body) {
+
+        String encode() {
+            var headerLines = new StringBuilder();
+            headers.forEach((name, values) -> values.forEach(value -> headerLines.append(name)
+                    .append(':')
+                    .append(value)
+                    .append('\n')));
+            return status + "\n" + (contentType == null
+                    ? ""
+                    : contentType) + "\n" + requestHash + "\n" + Base64.getEncoder()
+                            .encodeToString(headerLines.toString()
+                                    .getBytes(StandardCharsets.UTF_8)) + "\n" + Base64.getEncoder()
+                                            .encodeToString(body);
+        }
+
+        static StoredResponse decode(String value) {
+            var parts = value.split("\n", 5);
+            var contentType = parts[1].isEmpty()
+                    ? null
+                    : parts[1];
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            var headerLines = new String(Base64.getDecoder()
+                    .decode(parts[3]), StandardCharsets.UTF_8);
+            for (var line : headerLines.split("\n")) {
+                var separator = line.indexOf(':');
+                if (separator > 0) {
+                    headers.computeIfAbsent(line.substring(0, separator), _ -> new ArrayList<>())
+                            .add(line.substring(separator + 1));
+                }
+            }
+            return new StoredResponse(Integer.parseInt(parts[0]), contentType, headers, parts[2], Base64.getDecoder()
+                    .decode(parts[4]));
+        }
+
+    }
+
+    private final Duration ttl;
+    private final Cache<String, StoredResponse> cache;
+    private final StringRedisTemplate redisTemplate;
+
+    @Autowired
+    public IdempotencyStore(final Environment env,
+                            final ObjectProvider<StringRedisTemplate> redisTemplate,
+                            @Value("${idempotency.ttl:24h}") final Duration ttl,
+                            @Value("${idempotency.maximum-size:10000}") final long maximumSize) {
+        this.ttl = ttl;
+        var useRedis = Boolean.parseBoolean(env.getProperty("spring.redis.enabled", "false"));
+        this.redisTemplate = useRedis
+                ? redisTemplate.getIfAvailable()
+                : null;
+        this.cache = this.redisTemplate == null
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(ttl)
+                        .build()
+                : null;
+    }
+
+    public StoredResponse get(String key) {
+        if (this.redisTemplate == null) {
+            return this.cache.getIfPresent(key);
+        }
+        var value = this.redisTemplate.opsForValue()
+                .get(PREFIX + DigestUtils.sha256(key));
+        return value == null
+                ? null
+                : StoredResponse.decode(value);
+    }
+
+    public void put(String key,
+                    StoredResponse response) {
+        if (this.redisTemplate == null) {
+            this.cache.put(key, response);
+            return;
+        }
+        this.redisTemplate.opsForValue()
+                .set(PREFIX + DigestUtils.sha256(key), response.encode(), this.ttl);
+    }
+
+}
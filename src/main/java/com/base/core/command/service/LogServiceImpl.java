@@ -21,7 +21,6 @@ import com.base.core.authentication.user.model.User;
 import com.base.core.command.data.Command;
 import com.base.core.command.data.JsonCommand;
 import com.base.core.command.model.Logs;
-import com.base.core.command.repository.LogRepository;
 import com.base.core.serializer.JsonDelegator;
 import com.google.gson.JsonElement;
 import java.util.Date;
@@ -37,26 +36,29 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class LogServiceImpl implements LogService {
 
-    private final LogRepository logRepository;
+    private final AuditLogWriter auditLogWriter;
     private final CommandTypeProvider commandTypeProvider;
     private final JsonDelegator jsonDelegator;
     private final SecurityContext securityContext;
+    private final CommandMetrics commandMetrics;
 
     @Autowired
-    public LogServiceImpl(final LogRepository logRepository,
+    public LogServiceImpl(final AuditLogWriter auditLogWriter,
                           final CommandTypeProvider commandTypeProvider,
                           final JsonDelegator jsonDelegator,
-                          final SecurityContext securityContext) {
-        this.logRepository = logRepository;
+                          final SecurityContext securityContext,
+                          final CommandMetrics commandMetrics) {
+        this.auditLogWriter = auditLogWriter;
         this.commandTypeProvider = commandTypeProvider;
         this.jsonDelegator = jsonDelegator;
         this.securityContext = securityContext;
+        this.commandMetrics = commandMetrics;
     }
 
     @Override
     public Map<String, Object> log(Command command) {
         CommandHandlerProcessing handler = getHandler(command.getAction(), command.getEntity());
-        JsonElement jsonElement = jsonDelegator.parseString(command.getJson());
+        JsonElement jsonElement = this.commandMetrics.record(command.getAction(), command.getEntity(), CommandMetrics.Phase.PARSE, () -> jsonDelegator.parseString(command.getJson()));
         JsonCommand jsonCommand = JsonCommand.builder()
                 .id(command.getId())
                 .action(command.getAction())
@@ -75,7 +77,7 @@ public class LogServiceImpl implements LogService {
         Logs logs = new Logs(logData.get("id") != null
                 ? (Long) logData.get("id")
                 : command.getEntityId(), command.getAction(), command.getEntity(), command.getHref(), command.getJson(), createdBy.getName(), new Date());
-        this.logRepository.save(logs);
+        this.commandMetrics.record(command.getAction(), command.getEntity(), CommandMetrics.Phase.AUDIT, () -> this.auditLogWriter.write(logs));
 
         return logData;
     }
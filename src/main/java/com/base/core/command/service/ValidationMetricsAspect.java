@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.command.service;
+
+import com.base.core.command.data.JsonCommand;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every {@code *.validation.*} method that takes a {@link JsonCommand} as the {@code validate} phase of
+ * {@link CommandMetrics}.
+ *
+ * @author YISivlay
+ */
+@Aspect
+@Component
+public class ValidationMetricsAspect {
+
+    private final CommandMetrics commandMetrics;
+
+    @Autowired
+    public ValidationMetricsAspect(final CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Around("execution(* com.base..validation.*.*(com.base.core.command.data.JsonCommand)) && args(command)")
+    public Object validate(ProceedingJoinPoint joinPoint,
+                           JsonCommand command) throws Throwable {
+        var start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            this.commandMetrics.timer(command.getAction(), command.getEntity(), CommandMetrics.Phase.VALIDATE)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.schedule.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch-deletes {@code oauth2_authorization} rows whose every issued token has expired. Registered through
+ * {@code scheduled_job} as {@code reap_oauth2_authorization}.
+ *
+ * @author YISivlay
+ */
+@Component("oauth2AuthorizationReaper")
+public class OAuth2AuthorizationReaper implements Runnable {
+
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM oauth2_authorization
+            WHERE id IN (SELECT id
+                         FROM oauth2_authorization
+                         WHERE COALESCE(refresh_token_expires_at, access_token_expires_at, authorization_code_expires_at,
+                                        device_code_expires_at, user_code_expires_at) IS NOT NULL
+                           AND (refresh_token_expires_at IS NULL OR refresh_token_expires_at < now())
+                           AND (access_token_expires_at IS NULL OR access_token_expires_at < now())
+                           AND (authorization_code_expires_at IS NULL OR authorization_code_expires_at < now())
+                           AND (device_code_expires_at IS NULL OR device_code_expires_at < now())
+                           AND (user_code_expires_at IS NULL OR user_code_expires_at < now())
+                         LIMIT ?)
+            """;
+
+    private final Logger logger = LoggerFactory.getLogger(OAuth2AuthorizationReaper.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public OAuth2AuthorizationReaper(final JdbcTemplate jdbcTemplate,
+                                     @Value("${security.authorization-reaper.batch-size:1000}") final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+        var total = 0;
+        int deleted;
+        do {
+            deleted = this.jdbcTemplate.update(DELETE_EXPIRED, this.batchSize);
+            total += deleted;
+        } while (deleted == this.batchSize);
+        logger.info("Reaped {} expired OAuth2 authorization(s)", total);
+    }
+
+}
@@ -16,11 +16,10 @@
 package com.base.core.schedule.service;
 
 import com.base.config.security.keypairs.Keys;
-import com.base.config.security.keypairs.RSAKeyPairService;
+import com.base.config.security.keypairs.RSAKeyRing;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Comparator;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -36,13 +35,13 @@ public class ScheduledKeyRotator implements Runnable {
 
     private final Logger logger = LoggerFactory.getLogger(ScheduledKeyRotator.class);
 
-    private final RSAKeyPairService repository;
+    private final RSAKeyRing keyRing;
     private final Keys keys;
 
     @Autowired
-    public ScheduledKeyRotator(RSAKeyPairService repository,
+    public ScheduledKeyRotator(RSAKeyRing keyRing,
                                Keys keys) {
-        this.repository = repository;
+        this.keyRing = keyRing;
         this.keys = keys;
     }
 
@@ -57,29 +56,28 @@ public class ScheduledKeyRotator implements Runnable {
     }
 
     private void ensureAtLeastOneKeyExists() {
-        if (repository.findKeyPairs()
-                .isEmpty()) {
+        keyRing.reload();
+        if (keyRing.isEmpty()) {
             generateEmergencyKey();
         }
     }
 
     private void performScheduledRotation() {
-        var existingKey = repository.findKeyPairs()
-                .stream()
-                .max(Comparator.comparing(RSAKeyPairService.RSAKeyPair::created));
+        var existingKey = keyRing.current();
         var shouldRotate = existingKey.isEmpty() || existingKey.get()
-                .created()
-                .toInstant()
-                .isBefore(Instant.now()
-                        .minus(30, ChronoUnit.DAYS));
+                .algorithm() != keys.algorithm() || existingKey.get()
+                        .created()
+                        .toInstant()
+                        .isBefore(Instant.now()
+                                .minus(30, ChronoUnit.DAYS));
 
         if (shouldRotate) {
             var keyId = UUID.randomUUID()
                     .toString();
             var created = new Timestamp(System.currentTimeMillis());
             var newKey = keys.generateKeyPair(keyId, created);
-            repository.save(newKey);
-            logger.info("New rotated RSA key with ID {} on {}", keyId, created);
+            keyRing.save(newKey);
+            logger.info("New rotated {} key with ID {} on {}", keys.algorithm(), keyId, created);
         }
     }
 
@@ -88,7 +86,7 @@ public class ScheduledKeyRotator implements Runnable {
                 .toString();
         var created = new Timestamp(System.currentTimeMillis());
         var newKey = keys.generateKeyPair(keyId, created);
-        repository.save(newKey);
+        keyRing.save(newKey);
         logger.warn("Generated new RSA key due to missing keys");
     }
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.schedule.service;
+
+import com.base.portfolio.file.controller.FileConstants;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes staged uploads that were never promoted or discarded, e.g. because the process stopped between staging and
+ * commit. Registered through {@code scheduled_job} as {@code reap_staged_file}.
+ *
+ * @author YISivlay
+ */
+@Component("stagedFileReaper")
+public class StagedFileReaper implements Runnable {
+
+    private final Logger logger = LoggerFactory.getLogger(StagedFileReaper.class);
+
+    private final Duration maxAge;
+
+    @Autowired
+    public StagedFileReaper(@Value("${file.staging.max-age:1h}") final Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public void run() {
+        var dir = Paths.get(FileConstants.DIR, FileConstants.STAGING_DIR);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        var cutoff = Instant.now()
+                .minus(this.maxAge);
+        var total = 0;
+        try (var files = Files.list(dir)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (Files.getLastModifiedTime(path)
+                        .toInstant()
+                        .isBefore(cutoff) && Files.deleteIfExists(path)) {
+                    total++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to reap staged files in {}", dir, e);
+        }
+        logger.info("Reaped {} orphaned staged file(s)", total);
+    }
+
+}
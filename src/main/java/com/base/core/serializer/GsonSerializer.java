@@ -1,57 +0,0 @@
-/*
- * Copyright 2025 iSLDevs
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package com.base.core.serializer;
-
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
-import org.springframework.stereotype.Component;
-
-import java.util.Collections;
-import java.util.Map;
-
-/**
- * @author YISivlay
- */
-@Component
-public final class GsonSerializer {
-
-    private final Gson gson;
-
-    public GsonSerializer() {
-        final GsonBuilder builder = new GsonBuilder();
-        this.gson = builder.setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-                .create();
-    }
-
-    public String serialize(Object object) {
-        String serialized = null;
-        final var json = this.gson.toJson(object);
-        if (!"null".equalsIgnoreCase(json)) {
-            serialized = json;
-        }
-        return serialized;
-    }
-
-    public Map<String, Object> deserializeToMap(String json) {
-        if (json == null)
-            return Collections.emptyMap();
-        return gson.fromJson(json, new TypeToken<Map<String, Object>>() {
-        }.getType());
-    }
-
-}
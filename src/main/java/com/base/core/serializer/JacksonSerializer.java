@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.serializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Single entry point for API JSON output, backed by the application's {@link ObjectMapper} (snake_case, non-null
+ * fields, see {@code JsonConfig}). Serializers are cached by the mapper itself.
+ *
+ * @author YISivlay
+ */
+@Component
+public final class JacksonSerializer {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public JacksonSerializer(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public String serialize(Object object) {
+        if (object == null) {
+            return null;
+        }
+        try {
+            return this.objectMapper.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(Object object,
+                      OutputStream outputStream) throws IOException {
+        this.objectMapper.writeValue(StreamUtils.nonClosing(outputStream), object);
+    }
+
+    public Map<String, Object> toMap(Object object) {
+        return this.objectMapper.convertValue(object, MAP_TYPE);
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.serializer;
+
+/**
+ * A controller response body written straight to the response stream by {@link JsonBodyHttpMessageConverter}, in the
+ * API's snake_case format.
+ *
+ * @author YISivlay
+ */
+public record JsonBody<T>(T value) {
+
+    public static <T> JsonBody<T> of(T value) {
+        return new JsonBody<>(value);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.core.serializer;
+
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes {@link JsonBody} responses through {@link JacksonSerializer} directly to the response stream, so no
+ * intermediate JSON {@code String} is built. Write-only: it never claims a request body, and every type other than
+ * {@link JsonBody} is left to the remaining converters.
+ *
+ * @author YISivlay
+ */
+public class JsonBodyHttpMessageConverter implements HttpMessageConverter<JsonBody<?>> {
+
+    private static final List<MediaType> MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+
+    private final JacksonSerializer serializer;
+
+    public JsonBodyHttpMessageConverter(JacksonSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz,
+                           MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz,
+                            MediaType mediaType) {
+        return JsonBody.class.isAssignableFrom(clazz) && (mediaType == null || MEDIA_TYPES.stream()
+                .anyMatch(supported -> supported.isCompatibleWith(mediaType)));
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return MEDIA_TYPES;
+    }
+
+    @Override
+    public JsonBody<?> read(Class<? extends JsonBody<?>> clazz,
+                            HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JsonBody is a response type and is never read from a request", inputMessage);
+    }
+
+    @Override
+    public void write(JsonBody<?> body,
+                      MediaType contentType,
+                      HttpOutputMessage outputMessage) throws IOException {
+        var headers = outputMessage.getHeaders();
+        if (headers.getContentType() == null) {
+            headers.setContentType(contentType == null || contentType.isWildcardType() || contentType.isWildcardSubtype()
+                    ? MediaType.APPLICATION_JSON
+                    : contentType);
+        }
+        this.serializer.write(body.value(), outputMessage.getBody());
+    }
+
+}
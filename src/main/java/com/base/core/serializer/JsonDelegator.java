@@ -50,6 +50,12 @@ public class JsonDelegator {
         return false;
     }
 
+    public boolean hasParameter(JsonElement jsonElement,
+                                String parameter) {
+        return jsonElement != null && jsonElement.isJsonObject() && jsonElement.getAsJsonObject()
+                .has(parameter);
+    }
+
     public Long extractLong(String parameter,
                             JsonElement jsonElement) {
         Long value = null;
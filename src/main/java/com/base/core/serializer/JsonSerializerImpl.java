@@ -24,10 +24,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class JsonSerializerImpl<T> implements JsonSerializer<T> {
 
-    private final GsonSerializer serializer;
+    private final JacksonSerializer serializer;
 
     @Autowired
-    public JsonSerializerImpl(GsonSerializer serializer) {
+    public JsonSerializerImpl(JacksonSerializer serializer) {
         this.serializer = serializer;
     }
 
@@ -29,6 +29,7 @@ public class FileConstants {
     public static final Integer MAX_FILE_SIZE = 10;
     public static final Integer MAX_REQUEST_SIZE = 20;
     public static final String DIR = System.getProperty("user.home") + "/" + ".isldevs" + "/";
+    public static final String STAGING_DIR = ".staging";
 
     public static final String ID = "id";
     public static final String ENTITY = "entity";
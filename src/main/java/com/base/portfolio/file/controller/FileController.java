@@ -16,8 +16,7 @@
 package com.base.portfolio.file.controller;
 
 import com.base.core.command.service.LogService;
-import com.base.core.serializer.JsonSerializerImpl;
-import com.base.portfolio.file.dto.FileDTO;
+import com.base.core.serializer.JsonBody;
 import com.base.portfolio.file.handler.FileCommandHandler;
 import com.base.portfolio.file.repository.FileUtils;
 import com.base.portfolio.file.service.FileService;
@@ -37,77 +36,80 @@ import java.util.Map;
 @Scope("singleton")
 public class FileController {
 
-    private final JsonSerializerImpl<FileDTO> serializer;
     private final FileService service;
     private final LogService logService;
 
     @Autowired
-    public FileController(final JsonSerializerImpl<FileDTO> serializer,
-                          final FileService service,
+    public FileController(final FileService service,
                           final LogService logService) {
-        this.serializer = serializer;
         this.service = service;
         this.logService = logService;
     }
 
     @PostMapping(value = "/{entity}/{entityId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public String uploadFile(@PathVariable("entity") final String entity,
-                             @PathVariable("entityId") final Long entityId,
-                             @RequestParam("file") final MultipartFile file) {
+    public JsonBody<Map<String, Object>> uploadFile(@PathVariable("entity") final String entity,
+                                                    @PathVariable("entityId") final Long entityId,
+                                                    @RequestParam("file") final MultipartFile file) {
 
         FileUtils.isValidEntityName(entity);
         FileUtils.isValidateMimeType(file.getContentType());
 
+        final var staged = this.service.stageFile(file);
         final var command = new FileCommandHandler().upload(entity, entityId)
-                .file(file)
+                .file(staged)
                 .build();
 
-        final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        try {
+            final var data = this.logService.log(command);
+            return JsonBody.of(data);
+        } catch (RuntimeException e) {
+            staged.discard();
+            throw e;
+        }
     }
 
     @DeleteMapping(value = "/{entity}/{entityId}")
-    public String deleteFile(@PathVariable("entity") final String entity,
-                             @PathVariable("entityId") final Long entityId) {
+    public JsonBody<Map<String, Object>> deleteFile(@PathVariable("entity") final String entity,
+                                                    @PathVariable("entityId") final Long entityId) {
 
         FileUtils.isValidEntityName(entity);
         final var command = new FileCommandHandler().delete(entity, entityId)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping("{entity}/{entityId}/url")
-    public String fileURL(@PathVariable("entity") final String entity,
-                          @PathVariable("entityId") final Long entityId) {
+    public JsonBody<Map<String, Object>> fileURL(@PathVariable("entity") final String entity,
+                                                 @PathVariable("entityId") final Long entityId) {
         FileUtils.isValidEntityName(entity);
         Map<String, Object> url = this.service.fileURL(entity, entityId);
-        return this.serializer.serialize(url);
+        return JsonBody.of(url);
     }
 
     @GetMapping("{entity}/{entityId}/base64")
-    public String fileBase64(@PathVariable("entity") final String entity,
-                             @PathVariable("entityId") final Long entityId) {
+    public JsonBody<Map<String, Object>> fileBase64(@PathVariable("entity") final String entity,
+                                                    @PathVariable("entityId") final Long entityId) {
         FileUtils.isValidEntityName(entity);
         Map<String, Object> url = this.service.fileBase64(entity, entityId);
-        return this.serializer.serialize(url);
+        return JsonBody.of(url);
     }
 
     @GetMapping("{entity}/{entityId}/byte")
-    public String fileByte(@PathVariable("entity") final String entity,
-                           @PathVariable("entityId") final Long entityId) {
+    public JsonBody<Map<String, Object>> fileByte(@PathVariable("entity") final String entity,
+                                                  @PathVariable("entityId") final Long entityId) {
         FileUtils.isValidEntityName(entity);
         Map<String, Object> url = this.service.fileByte(entity, entityId);
-        return this.serializer.serialize(url);
+        return JsonBody.of(url);
     }
 
     @GetMapping("{entity}/{entityId}/inputstream")
-    public String fileInputStream(@PathVariable("entity") final String entity,
-                                  @PathVariable("entityId") final Long entityId) {
+    public JsonBody<Map<String, Object>> fileInputStream(@PathVariable("entity") final String entity,
+                                                         @PathVariable("entityId") final Long entityId) {
         FileUtils.isValidEntityName(entity);
         Map<String, Object> url = this.service.fileInputStream(entity, entityId);
-        return this.serializer.serialize(url);
+        return JsonBody.of(url);
     }
 
 }
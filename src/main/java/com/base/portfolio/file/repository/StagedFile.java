@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.portfolio.file.repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * An upload already processed and written to the staging area, outside any transaction. Carries the original file's
+ * name, type and size so it can stand in for the {@link MultipartFile} on the command; {@link #path()} holds the
+ * processed content until the upload commits and the file is promoted to its final location.
+ *
+ * @author YISivlay
+ */
+public record StagedFile(Path path, String name, String originalFilename, String contentType, long size) implements MultipartFile {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(path, dest.toPath());
+    }
+
+    /**
+     * Deletes the staged content. Safe to call more than once, and after promotion.
+     */
+    public void discard() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException _) {
+            // left for StagedFileReaper
+        }
+    }
+
+}
@@ -22,7 +22,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.*;
 import java.util.Base64;
+import java.util.UUID;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author YISivlay
@@ -35,39 +37,62 @@ public class StorageRepository implements StorageUtils {
     }
 
     @Override
-    public String writeFile(InputStream inputStream,
-                            Long entityId,
-                            String entityName,
-                            String fileName,
-                            String oldFileName,
-                            StorageRepository storageRepository) {
+    public StagedFile stageFile(MultipartFile file) {
+        Path dir = Paths.get(FileConstants.DIR, FileConstants.STAGING_DIR);
+        String fileName = file.getOriginalFilename();
+        String extension = extension(fileName);
+        Path path = dir.resolve(UUID.randomUUID() + "." + extension);
+        try (InputStream inputStream = file.getInputStream()) {
+            Files.createDirectories(dir);
+            InputStream resizedStream = FileUtils.resize(extension, inputStream);
+            Files.copy(resizedStream, path);
+            return new StagedFile(path, file.getName(), fileName, file.getContentType(), file.getSize());
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException _) {
+            }
+            throw new ErrorException(HttpStatus.INTERNAL_SERVER_ERROR, "msg.internal.error", "Writing file failed", path);
+        }
+    }
+
+    @Override
+    public String location(Long entityId,
+                           String entityName,
+                           String fileName) {
+        return Paths.get(FileConstants.DIR, entityName, String.valueOf(entityId), fileName)
+                .toAbsolutePath()
+                .toString();
+    }
 
+    @Override
+    public String promoteFile(StagedFile stagedFile,
+                              Long entityId,
+                              String entityName,
+                              String fileName,
+                              String oldFileName) {
         Path dir = Paths.get(FileConstants.DIR, entityName, String.valueOf(entityId));
         Path path = dir.resolve(fileName);
         try {
             Files.createDirectories(dir);
-            if (oldFileName != null && !oldFileName.isBlank()) {
-                Path oldPath = dir.resolve(oldFileName);
-                try {
-                    Files.deleteIfExists(oldPath);
-                } catch (IOException e) {
-                    throw new ErrorException(HttpStatus.INTERNAL_SERVER_ERROR, "msg.internal.error", "Deleting previous file failed", oldPath);
-                }
+            try {
+                Files.move(stagedFile.path(), path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(stagedFile.path(), path, StandardCopyOption.REPLACE_EXISTING);
             }
-
-            String extension = "";
-            int dotIndex = fileName.lastIndexOf('.');
-            if (dotIndex >= 0 && dotIndex < fileName.length() - 1) {
-                extension = fileName.substring(dotIndex + 1);
-            }
-
-            InputStream resizedStream = FileUtils.resize(extension, inputStream);
-            Files.copy(resizedStream, path, StandardCopyOption.REPLACE_EXISTING);
-            return path.toAbsolutePath()
-                    .toString();
         } catch (IOException e) {
             throw new ErrorException(HttpStatus.INTERNAL_SERVER_ERROR, "msg.internal.error", "Writing file failed", path);
         }
+        if (oldFileName != null && !oldFileName.isBlank() && !oldFileName.equals(fileName)) {
+            Path oldPath = dir.resolve(oldFileName);
+            try {
+                Files.deleteIfExists(oldPath);
+            } catch (IOException e) {
+                throw new ErrorException(HttpStatus.INTERNAL_SERVER_ERROR, "msg.internal.error", "Deleting previous file failed", oldPath);
+            }
+        }
+        return path.toAbsolutePath()
+                .toString();
     }
 
     @Override
@@ -126,4 +151,13 @@ public class StorageRepository implements StorageUtils {
         }
     }
 
+    private static String extension(String fileName) {
+        String extension = "";
+        int dotIndex = fileName.lastIndexOf('.');
+        if (dotIndex >= 0 && dotIndex < fileName.length() - 1) {
+            extension = fileName.substring(dotIndex + 1);
+        }
+        return extension;
+    }
+
 }
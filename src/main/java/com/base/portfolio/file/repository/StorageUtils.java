@@ -18,6 +18,7 @@ package com.base.portfolio.file.repository;
 import com.base.portfolio.file.model.StorageType;
 import java.io.InputStream;
 import java.nio.file.Path;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author YISivlay
@@ -26,12 +27,17 @@ public interface StorageUtils {
 
     StorageType getStorageType();
 
-    String writeFile(final InputStream inputStream,
-                     final Long entityId,
-                     final String entityName,
-                     final String imageName,
-                     final String oldFileName,
-                     final StorageRepository storageRepository);
+    StagedFile stageFile(final MultipartFile file);
+
+    String location(final Long entityId,
+                    final String entityName,
+                    final String fileName);
+
+    String promoteFile(final StagedFile stagedFile,
+                       final Long entityId,
+                       final String entityName,
+                       final String fileName,
+                       final String oldFileName);
 
     String readBase64(Path path);
 
@@ -16,14 +16,19 @@
 package com.base.portfolio.file.service;
 
 import com.base.core.command.data.JsonCommand;
+import com.base.portfolio.file.repository.StagedFile;
 import java.util.Map;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author YISivlay
  */
 public interface FileService {
 
+    @PreAuthorize("hasAnyAuthority('FULL_ACCESS', 'UPLOAD_FILE')")
+    StagedFile stageFile(MultipartFile file);
+
     @PreAuthorize("hasAnyAuthority('FULL_ACCESS', 'UPLOAD_FILE')")
     Map<String, Object> uploadFile(JsonCommand command);
 
@@ -17,22 +17,28 @@ package com.base.portfolio.file.service;
 
 import com.base.core.command.data.JsonCommand;
 import com.base.core.command.data.LogData;
-import com.base.core.exception.ErrorException;
 import com.base.core.exception.NotFoundException;
 import com.base.portfolio.file.controller.FileConstants;
 import com.base.portfolio.file.model.File;
 import com.base.portfolio.file.repository.FileRepository;
 import com.base.portfolio.file.repository.FileUtils;
+import com.base.portfolio.file.repository.StagedFile;
 import com.base.portfolio.file.repository.Storage;
 import com.base.portfolio.file.validation.FileDataValidation;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-
-import java.io.IOException;
-import java.nio.file.Paths;
-import java.util.Map;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author YISivlay
@@ -40,30 +46,43 @@ import java.util.Map;
 @Service
 public class FileServiceImpl implements FileService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileServiceImpl.class);
+
     private final Storage storage;
     private final FileDataValidation validator;
     private final MessageSource messageSource;
     private final FileRepository repository;
+    private final TransactionTemplate compensation;
 
     @Autowired
     public FileServiceImpl(final Storage storage,
                            final FileDataValidation validator,
                            final MessageSource messageSource,
-                           final FileRepository repository) {
+                           final FileRepository repository,
+                           final PlatformTransactionManager transactionManager) {
         this.storage = storage;
         this.validator = validator;
         this.messageSource = messageSource;
         this.repository = repository;
+        this.compensation = new TransactionTemplate(transactionManager);
+        this.compensation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public StagedFile stageFile(MultipartFile file) {
+        return this.storage.repository()
+                .stageFile(file);
     }
 
     @Override
     public Map<String, Object> uploadFile(JsonCommand command) {
         this.validator.upload(command.getEntityType(), command.getEntityId());
         var storage = this.storage.repository();
+        var file = command.getFile() instanceof StagedFile staged
+                ? staged
+                : storage.stageFile(command.getFile());
         try {
-            var file = command.getFile();
-
-            String oldFileName = null;
+            File previous = null;
             File entityFile = this.repository.findByEntityAndEntityId(command.getEntityType(), command.getEntityId());
             if (entityFile == null) {
                 entityFile = File.builder()
@@ -71,28 +90,49 @@ public class FileServiceImpl implements FileService {
                         .entityId(command.getEntityId())
                         .build();
             } else {
-                oldFileName = entityFile.getName();
+                previous = File.builder()
+                        .name(entityFile.getName())
+                        .size(entityFile.getSize())
+                        .mimeType(entityFile.getMimeType())
+                        .location(entityFile.getLocation())
+                        .storageType(entityFile.getStorageType())
+                        .build();
             }
 
-            var directory = storage.writeFile(file.getInputStream(), command.getEntityId(), command.getEntityType(), file
-                    .getOriginalFilename(), oldFileName, storage);
-            entityFile.setName(file.getOriginalFilename());
+            var fileName = file.getOriginalFilename();
+            entityFile.setName(fileName);
             entityFile.setSize(file.getSize());
             entityFile.setMimeType(file.getContentType());
-            entityFile.setLocation(directory);
+            entityFile.setLocation(storage.location(command.getEntityId(), command.getEntityType(), fileName));
             entityFile.setStorageType(storage.getStorageType()
                     .getValue());
 
             this.repository.save(entityFile);
 
+            final var id = entityFile.getId();
+            final var previousFile = previous;
+            afterCompletion(() -> {
+                try {
+                    storage.promoteFile(file, command.getEntityId(), command.getEntityType(), fileName, previousFile == null
+                            ? null
+                            : previousFile.getName());
+                } catch (RuntimeException e) {
+                    // the content is still staged only when the move itself failed; the row then points at nothing
+                    if (Files.exists(file.path())) {
+                        revert(id, previousFile);
+                    }
+                    throw e;
+                }
+            }, file::discard);
+
             return LogData.builder()
                     .id(entityFile.getId())
                     .success("msg.success", messageSource)
                     .build()
                     .claims();
-
-        } catch (IOException e) {
-            throw new ErrorException(HttpStatus.INTERNAL_SERVER_ERROR, "msg.internal.error", "Error while uploading file");
+        } catch (RuntimeException e) {
+            file.discard();
+            throw e;
         }
     }
 
@@ -104,9 +144,16 @@ public class FileServiceImpl implements FileService {
             throw new NotFoundException("msg.not.found", command.getEntityType(), command.getEntityId());
 
         var dir = Paths.get(FileConstants.DIR, command.getEntityType(), String.valueOf(command.getEntityId()), file.getName());
-        storage.deleteFile(dir);
         this.repository.delete(file);
         this.repository.flush();
+        afterCompletion(() -> {
+            try {
+                storage.deleteFile(dir);
+            } catch (RuntimeException e) {
+                LOGGER.error("Deleting file {} after transaction commit failed", dir, e);
+            }
+        }, () -> {
+        });
         return LogData.builder()
                 .success("msg.success", messageSource)
                 .build()
@@ -186,4 +233,61 @@ public class FileServiceImpl implements FileService {
                 .claims();
     }
 
+    /**
+     * Undoes a committed upload whose file could not be promoted, in its own transaction: a new row is removed and a
+     * replaced row gets its previous file back, so no row is left pointing at content that was never written.
+     */
+    private void revert(Long id,
+                        File previous) {
+        try {
+            this.compensation.executeWithoutResult(_ -> {
+                if (previous == null) {
+                    this.repository.deleteById(id);
+                    return;
+                }
+                this.repository.findById(id)
+                        .ifPresent(row -> {
+                            row.setName(previous.getName());
+                            row.setSize(previous.getSize());
+                            row.setMimeType(previous.getMimeType());
+                            row.setLocation(previous.getLocation());
+                            row.setStorageType(previous.getStorageType());
+                        });
+            });
+        } catch (RuntimeException e) {
+            LOGGER.error("Reverting file row {} after a failed promotion failed", id, e);
+        }
+    }
+
+    /**
+     * Runs file-system work once the surrounding command transaction has finished, so blobs change only when the row
+     * does and no connection is held during I/O. {@code onCommit} runs in {@code afterCommit}, so its failure reaches
+     * the caller; {@code onRollback} failures are only logged.
+     */
+    private static void afterCompletion(Runnable onCommit,
+                                        Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                onCommit.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    onRollback.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("File storage cleanup after transaction rollback failed", e);
+                }
+            }
+        });
+    }
+
 }
@@ -18,8 +18,6 @@ package com.base.portfolio.file.validation;
 import com.base.config.serialization.JsonHelper;
 import com.base.core.exception.ApiDataValidator;
 import com.base.portfolio.file.controller.FileConstants;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -43,15 +41,10 @@ public class FileDataValidation {
     public void upload(String type,
                        Long id) {
 
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-
         Map<String, Object> map = Map.of(FileConstants.ENTITY, type, FileConstants.ENTITY_ID, id);
-        String json = new Gson().toJson(map);
-
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, FileConstants.SUPPORTED_PARAMETER);
+        final var jsonElement = this.jsonHelper.toJsonTree(map);
 
-        final var jsonElement = this.jsonHelper.parse(json);
+        this.jsonHelper.unsupportedParameters(jsonElement, FileConstants.SUPPORTED_PARAMETER);
 
         final var entity = this.jsonHelper.extractString(FileConstants.ENTITY, jsonElement);
         validator.parameter(FileConstants.ENTITY, entity)
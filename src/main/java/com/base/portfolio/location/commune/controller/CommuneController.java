@@ -19,10 +19,11 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.base.core.command.service.LogService;
 import com.base.core.pageable.PageableHateoasAssembler;
-import com.base.core.serializer.JsonSerializerImpl;
+import com.base.core.serializer.JsonBody;
 import com.base.portfolio.location.commune.dto.CommuneDTO;
 import com.base.portfolio.location.commune.handler.CommuneCommandHandler;
 import com.base.portfolio.location.commune.service.CommuneService;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -36,52 +37,49 @@ import org.springframework.web.bind.annotation.*;
 public class CommuneController {
 
     private final PageableHateoasAssembler pageable;
-    private final JsonSerializerImpl<CommuneDTO> serializer;
     private final CommuneService service;
     private final LogService logService;
 
     @Autowired
     public CommuneController(final PageableHateoasAssembler pageable,
-                             final JsonSerializerImpl<CommuneDTO> serializer,
                              final CommuneService service,
                              final LogService logService) {
         this.pageable = pageable;
-        this.serializer = serializer;
         this.service = service;
         this.logService = logService;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String createCommune(@RequestBody String json) {
+    public JsonBody<Map<String, Object>> createCommune(@RequestBody String json) {
         final var command = new CommuneCommandHandler().create()
                 .json(json)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String updateCommune(@RequestBody String json,
-                                @PathVariable Long id) {
+    public JsonBody<Map<String, Object>> updateCommune(@RequestBody String json,
+                                                       @PathVariable Long id) {
         final var command = new CommuneCommandHandler().update(id)
                 .json(json)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @DeleteMapping(value = "{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
-    public String deleteCommune(@PathVariable Long id) {
+    public JsonBody<Map<String, Object>> deleteCommune(@PathVariable Long id) {
         final var command = new CommuneCommandHandler().delete(id)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String getCommune(@PathVariable Long id) {
+    public JsonBody<CommuneDTO> getCommune(@PathVariable Long id) {
         var data = this.service.getCommuneById(id);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
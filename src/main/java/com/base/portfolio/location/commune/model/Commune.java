@@ -16,8 +16,10 @@
 package com.base.portfolio.location.commune.model;
 
 import com.base.core.auditable.CustomAbstractAuditable;
+import com.base.core.command.data.CommandFields;
 import com.base.core.command.data.JsonCommand;
 import com.base.portfolio.location.commune.controller.CommuneConstants;
+import com.base.portfolio.location.commune.dto.CommuneCommandData;
 import com.base.portfolio.location.district.model.District;
 import jakarta.persistence.*;
 import java.util.HashMap;
@@ -81,38 +83,33 @@ public class Commune extends CustomAbstractAuditable {
 
     public Map<String, Object> changed(JsonCommand command) {
 
+        final var data = CommuneCommandData.of(command);
         final Map<String, Object> changes = new HashMap<>(7);
 
-        if (command.isChangeAsLong(CommuneConstants.DISTRICT, this.district == null
+        if (data.has(CommuneCommandData.DISTRICT_ID) && CommandFields.isChange(data.districtId(), this.district == null
                 ? null
                 : this.district.getId())) {
-            final var district = command.extractLong(CommuneConstants.DISTRICT);
-            changes.put(CommuneConstants.DISTRICT, district);
+            changes.put(CommuneConstants.DISTRICT, data.districtId());
         }
-        if (command.isChangeAsString(CommuneConstants.TYPE, this.type)) {
-            final var type = command.extractString(CommuneConstants.TYPE);
-            this.type = type;
-            changes.put(CommuneConstants.TYPE, type);
+        if (data.has(CommuneCommandData.TYPE) && CommandFields.isChange(data.type(), this.type)) {
+            this.type = data.type();
+            changes.put(CommuneConstants.TYPE, data.type());
         }
-        if (command.isChangeAsString(CommuneConstants.NAME_EN, this.nameEn)) {
-            final var nameEn = command.extractString(CommuneConstants.NAME_EN);
-            this.nameEn = nameEn;
-            changes.put(CommuneConstants.NAME_EN, nameEn);
+        if (data.has(CommuneCommandData.NAME_EN) && CommandFields.isChange(data.nameEn(), this.nameEn)) {
+            this.nameEn = data.nameEn();
+            changes.put(CommuneConstants.NAME_EN, data.nameEn());
         }
-        if (command.isChangeAsString(CommuneConstants.NAME_KM, this.nameKm)) {
-            final var nameKm = command.extractString(CommuneConstants.NAME_KM);
-            this.nameKm = nameKm;
-            changes.put(CommuneConstants.NAME_KM, nameKm);
+        if (data.has(CommuneCommandData.NAME_KM) && CommandFields.isChange(data.nameKm(), this.nameKm)) {
+            this.nameKm = data.nameKm();
+            changes.put(CommuneConstants.NAME_KM, data.nameKm());
         }
-        if (command.isChangeAsString(CommuneConstants.NAME_ZH, this.nameZh)) {
-            final var nameZh = command.extractString(CommuneConstants.NAME_ZH);
-            this.nameZh = nameZh;
-            changes.put(CommuneConstants.NAME_ZH, nameZh);
+        if (data.has(CommuneCommandData.NAME_ZH) && CommandFields.isChange(data.nameZh(), this.nameZh)) {
+            this.nameZh = data.nameZh();
+            changes.put(CommuneConstants.NAME_ZH, data.nameZh());
         }
-        if (command.isChangeAsString(CommuneConstants.POSTAL_CODE, this.postalCode)) {
-            final var postalCode = command.extractString(CommuneConstants.POSTAL_CODE);
-            this.postalCode = postalCode;
-            changes.put(CommuneConstants.POSTAL_CODE, postalCode);
+        if (data.has(CommuneCommandData.POSTAL_CODE) && CommandFields.isChange(data.postalCode(), this.postalCode)) {
+            this.postalCode = data.postalCode();
+            changes.put(CommuneConstants.POSTAL_CODE, data.postalCode());
         }
 
         return changes;
@@ -73,9 +73,9 @@ public class CommuneServiceImpl implements CommuneService {
     }
 
     @Override
-    @CacheEvict(value = "communes", allEntries = true)
+    @CacheEvict(value = "communes", key = "T(com.base.config.cache.PageKey).ALL")
     public Map<String, Object> createCommune(JsonCommand command) {
-        this.validation.create(command.getJson());
+        this.validation.create(command);
 
         final Long districtId = command.extractLong(CommuneConstants.DISTRICT);
         final District district = this.districtRepository.findById(districtId)
@@ -92,13 +92,13 @@ public class CommuneServiceImpl implements CommuneService {
     }
 
     @Override
-    @CacheEvict(value = "communes", allEntries = true)
+    @CacheEvict(value = "communes", key = "#id")
     public Map<String, Object> updateCommune(Long id,
                                              JsonCommand command) {
         var data = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
 
-        this.validation.update(command.getJson());
+        this.validation.update(command);
 
         var changes = data.changed(command);
         if (!changes.isEmpty()) {
@@ -113,7 +113,7 @@ public class CommuneServiceImpl implements CommuneService {
     }
 
     @Override
-    @CacheEvict(value = "communes", allEntries = true)
+    @CacheEvict(value = "communes", key = "#id")
     public Map<String, Object> deleteCommune(Long id) {
         final var data = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
@@ -127,7 +127,7 @@ public class CommuneServiceImpl implements CommuneService {
     }
 
     @Override
-    @Cacheable(value = "communes", key = "#id")
+    @Cacheable(value = "communes", key = "#id", sync = true)
     public CommuneDTO getCommuneById(Long id) {
         try {
             return jdbcTemplate.queryForObject("""
@@ -156,7 +156,7 @@ public class CommuneServiceImpl implements CommuneService {
     }
 
     @Override
-    @Cacheable(value = "communes", key = "#page + '-' + #size + '-' + #search")
+    @Cacheable(value = "communes", key = "T(com.base.config.cache.PageKey).of(#page, #size, #search)", sync = true)
     public Page<CommuneDTO> listCommunes(Integer page,
                                          Integer size,
                                          String search) {
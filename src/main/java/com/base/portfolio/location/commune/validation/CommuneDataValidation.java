@@ -16,10 +16,9 @@
 package com.base.portfolio.location.commune.validation;
 
 import com.base.config.serialization.JsonHelper;
+import com.base.core.command.data.JsonCommand;
 import com.base.core.exception.ApiDataValidator;
 import com.base.portfolio.location.commune.controller.CommuneConstants;
-import com.google.gson.reflect.TypeToken;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -39,13 +38,9 @@ public class CommuneDataValidation {
         this.validator = validator;
     }
 
-    public void create(String json) {
-
-        final var typeOfMap = new TypeToken<Map<String, String>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, CommuneConstants.SUPPORTED_PARAMETERS);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void create(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, CommuneConstants.SUPPORTED_PARAMETERS);
 
         final var district = this.jsonHelper.extractLong(CommuneConstants.DISTRICT, jsonElement);
         validator.parameter(CommuneConstants.DISTRICT, district)
@@ -84,12 +79,9 @@ public class CommuneDataValidation {
                 .maxLength(50);
     }
 
-    public void update(String json) {
-        final var typeOfMap = new TypeToken<Map<String, String>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, CommuneConstants.SUPPORTED_PARAMETERS);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void update(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, CommuneConstants.SUPPORTED_PARAMETERS);
 
         if (this.jsonHelper.parameterExists(CommuneConstants.DISTRICT, jsonElement)) {
             final var district = this.jsonHelper.extractLong(CommuneConstants.DISTRICT, jsonElement);
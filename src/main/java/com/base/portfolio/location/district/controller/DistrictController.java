@@ -19,10 +19,11 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.base.core.command.service.LogService;
 import com.base.core.pageable.PageableHateoasAssembler;
-import com.base.core.serializer.JsonSerializerImpl;
+import com.base.core.serializer.JsonBody;
 import com.base.portfolio.location.district.dto.DistrictDTO;
 import com.base.portfolio.location.district.handler.DistrictCommandHandler;
 import com.base.portfolio.location.district.service.DistrictService;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -36,52 +37,49 @@ import org.springframework.web.bind.annotation.*;
 public class DistrictController {
 
     private final PageableHateoasAssembler pageable;
-    private final JsonSerializerImpl<DistrictDTO> serializer;
     private final DistrictService service;
     private final LogService logService;
 
     @Autowired
     public DistrictController(final PageableHateoasAssembler pageable,
-                              final JsonSerializerImpl<DistrictDTO> serializer,
                               final DistrictService service,
                               final LogService logService) {
         this.pageable = pageable;
-        this.serializer = serializer;
         this.service = service;
         this.logService = logService;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String createDistrict(@RequestBody String json) {
+    public JsonBody<Map<String, Object>> createDistrict(@RequestBody String json) {
         final var command = new DistrictCommandHandler().create()
                 .json(json)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String updateDistrict(@RequestBody String json,
-                                 @PathVariable Long id) {
+    public JsonBody<Map<String, Object>> updateDistrict(@RequestBody String json,
+                                                        @PathVariable Long id) {
         final var command = new DistrictCommandHandler().update(id)
                 .json(json)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @DeleteMapping(value = "{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
-    public String deleteDistrict(@PathVariable Long id) {
+    public JsonBody<Map<String, Object>> deleteDistrict(@PathVariable Long id) {
         final var command = new DistrictCommandHandler().delete(id)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String getDistrict(@PathVariable Long id) {
+    public JsonBody<DistrictDTO> getDistrict(@PathVariable Long id) {
         var data = this.service.getDistrictById(id);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
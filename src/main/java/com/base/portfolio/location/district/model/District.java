@@ -16,9 +16,11 @@
 package com.base.portfolio.location.district.model;
 
 import com.base.core.auditable.CustomAbstractAuditable;
+import com.base.core.command.data.CommandFields;
 import com.base.core.command.data.JsonCommand;
 import com.base.portfolio.location.commune.model.Commune;
 import com.base.portfolio.location.district.controller.DistrictConstants;
+import com.base.portfolio.location.district.dto.DistrictCommandData;
 import com.base.portfolio.location.province.model.Province;
 import jakarta.persistence.*;
 import java.util.HashMap;
@@ -99,38 +101,33 @@ public class District extends CustomAbstractAuditable {
 
     public Map<String, Object> changed(JsonCommand command) {
 
+        final var data = DistrictCommandData.of(command);
         final Map<String, Object> changes = new HashMap<>(7);
 
-        if (command.isChangeAsLong(DistrictConstants.PROVINCE, this.province == null
+        if (data.has(DistrictCommandData.PROVINCE_ID) && CommandFields.isChange(data.provinceId(), this.province == null
                 ? null
                 : this.province.getId())) {
-            final var province = command.extractLong(DistrictConstants.PROVINCE);
-            changes.put(DistrictConstants.PROVINCE, province);
+            changes.put(DistrictConstants.PROVINCE, data.provinceId());
         }
-        if (command.isChangeAsString(DistrictConstants.TYPE, this.type)) {
-            final var type = command.extractString(DistrictConstants.TYPE);
-            this.type = type;
-            changes.put(DistrictConstants.TYPE, type);
+        if (data.has(DistrictCommandData.TYPE) && CommandFields.isChange(data.type(), this.type)) {
+            this.type = data.type();
+            changes.put(DistrictConstants.TYPE, data.type());
         }
-        if (command.isChangeAsString(DistrictConstants.NAME_EN, this.nameEn)) {
-            final var nameEn = command.extractString(DistrictConstants.NAME_EN);
-            this.nameEn = nameEn;
-            changes.put(DistrictConstants.NAME_EN, nameEn);
+        if (data.has(DistrictCommandData.NAME_EN) && CommandFields.isChange(data.nameEn(), this.nameEn)) {
+            this.nameEn = data.nameEn();
+            changes.put(DistrictConstants.NAME_EN, data.nameEn());
         }
-        if (command.isChangeAsString(DistrictConstants.NAME_KM, this.nameKm)) {
-            final var nameKm = command.extractString(DistrictConstants.NAME_KM);
-            this.nameKm = nameKm;
-            changes.put(DistrictConstants.NAME_KM, nameKm);
+        if (data.has(DistrictCommandData.NAME_KM) && CommandFields.isChange(data.nameKm(), this.nameKm)) {
+            this.nameKm = data.nameKm();
+            changes.put(DistrictConstants.NAME_KM, data.nameKm());
         }
-        if (command.isChangeAsString(DistrictConstants.NAME_ZH, this.nameZh)) {
-            final var nameZh = command.extractString(DistrictConstants.NAME_ZH);
-            this.nameZh = nameZh;
-            changes.put(DistrictConstants.NAME_ZH, nameZh);
+        if (data.has(DistrictCommandData.NAME_ZH) && CommandFields.isChange(data.nameZh(), this.nameZh)) {
+            this.nameZh = data.nameZh();
+            changes.put(DistrictConstants.NAME_ZH, data.nameZh());
         }
-        if (command.isChangeAsString(DistrictConstants.POSTAL_CODE, this.postalCode)) {
-            final var postalCode = command.extractString(DistrictConstants.POSTAL_CODE);
-            this.postalCode = postalCode;
-            changes.put(DistrictConstants.POSTAL_CODE, postalCode);
+        if (data.has(DistrictCommandData.POSTAL_CODE) && CommandFields.isChange(data.postalCode(), this.postalCode)) {
+            this.postalCode = data.postalCode();
+            changes.put(DistrictConstants.POSTAL_CODE, data.postalCode());
         }
 
         return changes;
@@ -70,9 +70,9 @@ public class DistrictServiceImpl implements DistrictService {
     }
 
     @Override
-    @CacheEvict(value = "districts", allEntries = true)
+    @CacheEvict(value = "districts", key = "T(com.base.config.cache.PageKey).ALL")
     public Map<String, Object> createDistrict(JsonCommand command) {
-        this.validation.create(command.getJson());
+        this.validation.create(command);
 
         final Long provinceId = command.extractLong(DistrictConstants.PROVINCE);
         final Province province = this.provinceRepository.findById(provinceId)
@@ -89,13 +89,13 @@ public class DistrictServiceImpl implements DistrictService {
     }
 
     @Override
-    @CacheEvict(value = "districts", allEntries = true)
+    @CacheEvict(value = "districts", key = "#id")
     public Map<String, Object> updateDistrict(Long id,
                                               JsonCommand command) {
         var data = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
 
-        this.validation.update(command.getJson());
+        this.validation.update(command);
 
         var changes = data.changed(command);
         if (!changes.isEmpty()) {
@@ -110,7 +110,7 @@ public class DistrictServiceImpl implements DistrictService {
     }
 
     @Override
-    @CacheEvict(value = "districts", allEntries = true)
+    @CacheEvict(value = "districts", key = "#id")
     public Map<String, Object> deleteDistrict(Long id) {
         final var data = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
@@ -124,7 +124,7 @@ public class DistrictServiceImpl implements DistrictService {
     }
 
     @Override
-    @Cacheable(value = "districts", key = "#id")
+    @Cacheable(value = "districts", key = "#id", sync = true)
     public DistrictDTO getDistrictById(Long id) {
         try {
             return jdbcTemplate.queryForObject("""
@@ -168,7 +168,7 @@ public class DistrictServiceImpl implements DistrictService {
     }
 
     @Override
-    @Cacheable(value = "districts", key = "#page + '-' + #size + '-' + #search")
+    @Cacheable(value = "districts", key = "T(com.base.config.cache.PageKey).of(#page, #size, #search)", sync = true)
     public Page<DistrictDTO> listDistricts(Integer page,
                                            Integer size,
                                            String search) {
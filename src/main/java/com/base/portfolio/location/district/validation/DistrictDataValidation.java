@@ -16,10 +16,9 @@
 package com.base.portfolio.location.district.validation;
 
 import com.base.config.serialization.JsonHelper;
+import com.base.core.command.data.JsonCommand;
 import com.base.core.exception.ApiDataValidator;
 import com.base.portfolio.location.district.controller.DistrictConstants;
-import com.google.gson.reflect.TypeToken;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -39,13 +38,9 @@ public class DistrictDataValidation {
         this.validator = validator;
     }
 
-    public void create(String json) {
-
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, DistrictConstants.SUPPORTED_PARAMETERS);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void create(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, DistrictConstants.SUPPORTED_PARAMETERS);
 
         final var province = this.jsonHelper.extractLong(DistrictConstants.PROVINCE, jsonElement);
         validator.parameter(DistrictConstants.PROVINCE, province)
@@ -90,12 +85,9 @@ public class DistrictDataValidation {
         }
     }
 
-    public void update(String json) {
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, DistrictConstants.SUPPORTED_PARAMETERS);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void update(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, DistrictConstants.SUPPORTED_PARAMETERS);
 
         if (this.jsonHelper.parameterExists(DistrictConstants.PROVINCE, jsonElement)) {
             final var province = this.jsonHelper.extractLong(DistrictConstants.PROVINCE, jsonElement);
@@ -19,10 +19,11 @@ import static org.springframework.http.MediaType.*;
 
 import com.base.core.command.service.LogService;
 import com.base.core.pageable.PageableHateoasAssembler;
-import com.base.core.serializer.JsonSerializerImpl;
+import com.base.core.serializer.JsonBody;
 import com.base.portfolio.location.province.dto.ProvinceDTO;
 import com.base.portfolio.location.province.handler.ProvinceCommandHandler;
 import com.base.portfolio.location.province.service.ProvinceService;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -36,52 +37,49 @@ import org.springframework.web.bind.annotation.*;
 public class ProvinceController {
 
     private final PageableHateoasAssembler pageable;
-    private final JsonSerializerImpl<ProvinceDTO> serializer;
     private final ProvinceService service;
     private final LogService logService;
 
     @Autowired
     public ProvinceController(final PageableHateoasAssembler pageable,
-                              final JsonSerializerImpl<ProvinceDTO> serializer,
                               final ProvinceService service,
                               final LogService logService) {
         this.pageable = pageable;
-        this.serializer = serializer;
         this.service = service;
         this.logService = logService;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String createProvince(@RequestBody String json) {
+    public JsonBody<Map<String, Object>> createProvince(@RequestBody String json) {
         final var command = new ProvinceCommandHandler().create()
                 .json(json)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String updateProvince(@RequestBody String json,
-                                 @PathVariable Long id) {
+    public JsonBody<Map<String, Object>> updateProvince(@RequestBody String json,
+                                                        @PathVariable Long id) {
         final var command = new ProvinceCommandHandler().update(id)
                 .json(json)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @DeleteMapping(value = "{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
-    public String deleteProvince(@PathVariable Long id) {
+    public JsonBody<Map<String, Object>> deleteProvince(@PathVariable Long id) {
         final var command = new ProvinceCommandHandler().delete(id)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String getProvince(@PathVariable Long id) {
+    public JsonBody<ProvinceDTO> getProvince(@PathVariable Long id) {
         var data = this.service.getProvinceById(id);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -16,9 +16,11 @@
 package com.base.portfolio.location.province.model;
 
 import com.base.core.auditable.CustomAbstractAuditable;
+import com.base.core.command.data.CommandFields;
 import com.base.core.command.data.JsonCommand;
 import com.base.portfolio.location.district.model.District;
 import com.base.portfolio.location.province.controller.ProvinceConstants;
+import com.base.portfolio.location.province.dto.ProvinceCommandData;
 import jakarta.persistence.*;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -88,32 +90,28 @@ public class Province extends CustomAbstractAuditable {
 
     public Map<String, Object> changed(JsonCommand command) {
 
+        final var data = ProvinceCommandData.of(command);
         final Map<String, Object> changes = new HashMap<>(7);
 
-        if (command.isChangeAsString(ProvinceConstants.TYPE, this.type)) {
-            final var type = command.extractString(ProvinceConstants.TYPE);
-            this.type = type;
-            changes.put(ProvinceConstants.TYPE, type);
+        if (data.has(ProvinceCommandData.TYPE) && CommandFields.isChange(data.type(), this.type)) {
+            this.type = data.type();
+            changes.put(ProvinceConstants.TYPE, data.type());
         }
-        if (command.isChangeAsString(ProvinceConstants.NAME_EN, this.nameEn)) {
-            final var nameEn = command.extractString(ProvinceConstants.NAME_EN);
-            this.nameEn = nameEn;
-            changes.put(ProvinceConstants.NAME_EN, nameEn);
+        if (data.has(ProvinceCommandData.NAME_EN) && CommandFields.isChange(data.nameEn(), this.nameEn)) {
+            this.nameEn = data.nameEn();
+            changes.put(ProvinceConstants.NAME_EN, data.nameEn());
         }
-        if (command.isChangeAsString(ProvinceConstants.NAME_KM, this.nameKm)) {
-            final var nameKm = command.extractString(ProvinceConstants.NAME_KM);
-            this.nameKm = nameKm;
-            changes.put(ProvinceConstants.NAME_KM, nameKm);
+        if (data.has(ProvinceCommandData.NAME_KM) && CommandFields.isChange(data.nameKm(), this.nameKm)) {
+            this.nameKm = data.nameKm();
+            changes.put(ProvinceConstants.NAME_KM, data.nameKm());
         }
-        if (command.isChangeAsString(ProvinceConstants.NAME_ZH, this.nameZh)) {
-            final var nameZh = command.extractString(ProvinceConstants.NAME_ZH);
-            this.nameZh = nameZh;
-            changes.put(ProvinceConstants.NAME_ZH, nameZh);
+        if (data.has(ProvinceCommandData.NAME_ZH) && CommandFields.isChange(data.nameZh(), this.nameZh)) {
+            this.nameZh = data.nameZh();
+            changes.put(ProvinceConstants.NAME_ZH, data.nameZh());
         }
-        if (command.isChangeAsString(ProvinceConstants.POSTAL_CODE, this.postalCode)) {
-            final var postalCode = command.extractString(ProvinceConstants.POSTAL_CODE);
-            this.postalCode = postalCode;
-            changes.put(ProvinceConstants.POSTAL_CODE, postalCode);
+        if (data.has(ProvinceCommandData.POSTAL_CODE) && CommandFields.isChange(data.postalCode(), this.postalCode)) {
+            this.postalCode = data.postalCode();
+            changes.put(ProvinceConstants.POSTAL_CODE, data.postalCode());
         }
 
         return changes;
@@ -64,9 +64,9 @@ public class ProvinceServiceImpl implements ProvinceService {
     }
 
     @Override
-    @CacheEvict(value = "provinces", allEntries = true)
+    @CacheEvict(value = "provinces", key = "T(com.base.config.cache.PageKey).ALL")
     public Map<String, Object> createProvince(JsonCommand command) {
-        this.validation.create(command.getJson());
+        this.validation.create(command);
 
         final var data = Province.fromJson(command);
 
@@ -79,13 +79,13 @@ public class ProvinceServiceImpl implements ProvinceService {
     }
 
     @Override
-    @CacheEvict(value = "provinces", allEntries = true)
+    @CacheEvict(value = "provinces", key = "#id")
     public Map<String, Object> updateProvince(Long id,
                                               JsonCommand command) {
         var data = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
 
-        this.validation.update(command.getJson());
+        this.validation.update(command);
 
         var changes = data.changed(command);
         if (!changes.isEmpty()) {
@@ -100,7 +100,7 @@ public class ProvinceServiceImpl implements ProvinceService {
     }
 
     @Override
-    @CacheEvict(value = "provinces", allEntries = true)
+    @CacheEvict(value = "provinces", key = "#id")
     public Map<String, Object> deleteProvince(Long id) {
         final var data = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
@@ -142,7 +142,7 @@ public class ProvinceServiceImpl implements ProvinceService {
     }
 
     @Override
-    @Cacheable(value = "provinces", key = "#page + '-' + #size + '-' + #search")
+    @Cacheable(value = "provinces", key = "T(com.base.config.cache.PageKey).of(#page, #size, #search)", sync = true)
     public Page<ProvinceDTO> listProvinces(Integer page,
                                            Integer size,
                                            String search) {
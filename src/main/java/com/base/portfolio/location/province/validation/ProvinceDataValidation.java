@@ -16,10 +16,9 @@
 package com.base.portfolio.location.province.validation;
 
 import com.base.config.serialization.JsonHelper;
+import com.base.core.command.data.JsonCommand;
 import com.base.core.exception.ApiDataValidator;
 import com.base.portfolio.location.province.controller.ProvinceConstants;
-import com.google.gson.reflect.TypeToken;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -39,13 +38,9 @@ public class ProvinceDataValidation {
         this.validator = validator;
     }
 
-    public void create(String json) {
-
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, ProvinceConstants.SUPPORTED_PARAMETERS);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void create(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, ProvinceConstants.SUPPORTED_PARAMETERS);
 
         final var type = this.jsonHelper.extractString(ProvinceConstants.TYPE, jsonElement);
         validator.parameter(ProvinceConstants.TYPE, type)
@@ -84,12 +79,9 @@ public class ProvinceDataValidation {
         }
     }
 
-    public void update(String json) {
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, ProvinceConstants.SUPPORTED_PARAMETERS);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void update(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, ProvinceConstants.SUPPORTED_PARAMETERS);
 
         if (this.jsonHelper.parameterExists(ProvinceConstants.TYPE, jsonElement)) {
             final var type = this.jsonHelper.extractString(ProvinceConstants.TYPE, jsonElement);
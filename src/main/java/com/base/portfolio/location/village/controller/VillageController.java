@@ -19,10 +19,11 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.base.core.command.service.LogService;
 import com.base.core.pageable.PageableHateoasAssembler;
-import com.base.core.serializer.JsonSerializerImpl;
+import com.base.core.serializer.JsonBody;
 import com.base.portfolio.location.village.dto.VillageDTO;
 import com.base.portfolio.location.village.handler.VillageCommandHandler;
 import com.base.portfolio.location.village.service.VillageService;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -36,52 +37,49 @@ import org.springframework.web.bind.annotation.*;
 public class VillageController {
 
     private final PageableHateoasAssembler pageable;
-    private final JsonSerializerImpl<VillageDTO> serializer;
     private final VillageService service;
     private final LogService logService;
 
     @Autowired
     public VillageController(final PageableHateoasAssembler pageable,
-                             final JsonSerializerImpl<VillageDTO> serializer,
                              final VillageService service,
                              final LogService logService) {
         this.pageable = pageable;
-        this.serializer = serializer;
         this.service = service;
         this.logService = logService;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String createVillage(@RequestBody String json) {
+    public JsonBody<Map<String, Object>> createVillage(@RequestBody String json) {
         final var command = new VillageCommandHandler().create()
                 .json(json)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String updateVillage(@RequestBody String json,
-                                @PathVariable Long id) {
+    public JsonBody<Map<String, Object>> updateVillage(@RequestBody String json,
+                                                       @PathVariable Long id) {
         final var command = new VillageCommandHandler().update(id)
                 .json(json)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @DeleteMapping(value = "{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
-    public String deleteVillage(@PathVariable Long id) {
+    public JsonBody<Map<String, Object>> deleteVillage(@PathVariable Long id) {
         final var command = new VillageCommandHandler().delete(id)
                 .build();
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String getVillage(@PathVariable Long id) {
+    public JsonBody<VillageDTO> getVillage(@PathVariable Long id) {
         var data = this.service.getVillageById(id);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.portfolio.location.village.dto;
+
+import com.base.core.command.data.CommandFields;
+import com.base.core.command.data.JsonCommand;
+import com.base.portfolio.location.village.controller.VillageConstants;
+
+/**
+ * Village fields of a create or update command, bound in one pass with a presence bit per field.
+ *
+ * @author YISivlay
+ */
+public record VillageCommandData(int present,
+                                 Long communeId,
+                                 String nameEn,
+                                 String nameKm,
+                                 String nameZh,
+                                 String postalCode) {
+
+    public static final int COMMUNE_ID = 1;
+    public static final int NAME_EN = 1 << 1;
+    public static final int NAME_KM = 1 << 2;
+    public static final int NAME_ZH = 1 << 3;
+    public static final int POSTAL_CODE = 1 << 4;
+
+    public static VillageCommandData of(final JsonCommand command) {
+        int present = 0;
+        Long communeId = null;
+        String nameEn = null;
+        String nameKm = null;
+        String nameZh = null;
+        String postalCode = null;
+        for (var entry : command.entries()) {
+            switch (entry.getKey()) {
+                case VillageConstants.COMMUNE -> {
+                    present |= COMMUNE_ID;
+                    communeId = CommandFields.asLong(entry.getValue());
+                }
+                case VillageConstants.NAME_EN -> {
+                    present |= NAME_EN;
+                    nameEn = CommandFields.asString(entry.getValue());
+                }
+                case VillageConstants.NAME_KM -> {
+                    present |= NAME_KM;
+                    nameKm = CommandFields.asString(entry.getValue());
+                }
+                case VillageConstants.NAME_ZH -> {
+                    present |= NAME_ZH;
+                    nameZh = CommandFields.asString(entry.getValue());
+                }
+                case VillageConstants.POSTAL_CODE -> {
+                    present |= POSTAL_CODE;
+                    postalCode = CommandFields.asString(entry.getValue());
+                }
+                default -> {
+                }
+            }
+        }
+        return new VillageCommandData(present, communeId, nameEn, nameKm, nameZh, postalCode);
+    }
+
+    public boolean has(final int field) {
+        return (this.present & field) != 0;
+    }
+
+}
@@ -16,9 +16,11 @@
 package com.base.portfolio.location.village.model;
 
 import com.base.core.auditable.CustomAbstractAuditable;
+import com.base.core.command.data.CommandFields;
 import com.base.core.command.data.JsonCommand;
 import com.base.portfolio.location.commune.model.Commune;
 import com.base.portfolio.location.village.controller.VillageConstants;
+import com.base.portfolio.location.village.dto.VillageCommandData;
 import jakarta.persistence.*;
 import java.util.HashMap;
 import java.util.Map;
@@ -76,33 +78,29 @@ public class Village extends CustomAbstractAuditable {
 
     public Map<String, Object> changed(JsonCommand command) {
 
+        final var data = VillageCommandData.of(command);
         final Map<String, Object> changes = new HashMap<>(7);
 
-        if (command.isChangeAsLong(VillageConstants.COMMUNE, this.commune == null
+        if (data.has(VillageCommandData.COMMUNE_ID) && CommandFields.isChange(data.communeId(), this.commune == null
                 ? null
                 : this.commune.getId())) {
-            final var commune = command.extractLong(VillageConstants.COMMUNE);
-            changes.put(VillageConstants.COMMUNE, commune);
+            changes.put(VillageConstants.COMMUNE, data.communeId());
         }
-        if (command.isChangeAsString(VillageConstants.NAME_EN, this.nameEn)) {
-            final var nameEn = command.extractString(VillageConstants.NAME_EN);
-            this.nameEn = nameEn;
-            changes.put(VillageConstants.NAME_EN, nameEn);
+        if (data.has(VillageCommandData.NAME_EN) && CommandFields.isChange(data.nameEn(), this.nameEn)) {
+            this.nameEn = data.nameEn();
+            changes.put(VillageConstants.NAME_EN, data.nameEn());
         }
-        if (command.isChangeAsString(VillageConstants.NAME_KM, this.nameKm)) {
-            final var nameKm = command.extractString(VillageConstants.NAME_KM);
-            this.nameKm = nameKm;
-            changes.put(VillageConstants.NAME_KM, nameKm);
+        if (data.has(VillageCommandData.NAME_KM) && CommandFields.isChange(data.nameKm(), this.nameKm)) {
+            this.nameKm = data.nameKm();
+            changes.put(VillageConstants.NAME_KM, data.nameKm());
         }
-        if (command.isChangeAsString(VillageConstants.NAME_ZH, this.nameZh)) {
-            final var nameZh = command.extractString(VillageConstants.NAME_ZH);
-            this.nameZh = nameZh;
-            changes.put(VillageConstants.NAME_ZH, nameZh);
+        if (data.has(VillageCommandData.NAME_ZH) && CommandFields.isChange(data.nameZh(), this.nameZh)) {
+            this.nameZh = data.nameZh();
+            changes.put(VillageConstants.NAME_ZH, data.nameZh());
         }
-        if (command.isChangeAsString(VillageConstants.POSTAL_CODE, this.postalCode)) {
-            final var postalCode = command.extractString(VillageConstants.POSTAL_CODE);
-            this.postalCode = postalCode;
-            changes.put(VillageConstants.POSTAL_CODE, postalCode);
+        if (data.has(VillageCommandData.POSTAL_CODE) && CommandFields.isChange(data.postalCode(), this.postalCode)) {
+            this.postalCode = data.postalCode();
+            changes.put(VillageConstants.POSTAL_CODE, data.postalCode());
         }
 
         return changes;
@@ -70,9 +70,9 @@ public class VillageServiceImpl implements VillageService {
     }
 
     @Override
-    @CacheEvict(value = "villages", allEntries = true)
+    @CacheEvict(value = "villages", key = "T(com.base.config.cache.PageKey).ALL")
     public Map<String, Object> createVillage(JsonCommand command) {
-        this.validation.create(command.getJson());
+        this.validation.create(command);
 
         final Long communeId = command.extractLong(VillageConstants.COMMUNE);
         final Commune commune = this.communeRepository.findById(communeId)
@@ -89,13 +89,13 @@ public class VillageServiceImpl implements VillageService {
     }
 
     @Override
-    @CacheEvict(value = "villages", allEntries = true)
+    @CacheEvict(value = "villages", key = "#id")
     public Map<String, Object> updateVillage(Long id,
                                              JsonCommand command) {
         var data = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
 
-        this.validation.update(command.getJson());
+        this.validation.update(command);
 
         var changes = data.changed(command);
         if (!changes.isEmpty()) {
@@ -110,7 +110,7 @@ public class VillageServiceImpl implements VillageService {
     }
 
     @Override
-    @CacheEvict(value = "villages", allEntries = true)
+    @CacheEvict(value = "villages", key = "#id")
     public Map<String, Object> deleteVillage(Long id) {
         final var data = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
@@ -124,7 +124,7 @@ public class VillageServiceImpl implements VillageService {
     }
 
     @Override
-    @Cacheable(value = "villages", key = "#id")
+    @Cacheable(value = "villages", key = "#id", sync = true)
     public VillageDTO getVillageById(Long id) {
         try {
             return jdbcTemplate.queryForObject("SELECT * FROM village WHERE id = ?", this::mapRow, id);
@@ -134,7 +134,7 @@ public class VillageServiceImpl implements VillageService {
     }
 
     @Override
-    @Cacheable(value = "villages", key = "#page + '-' + #size + '-' + #search")
+    @Cacheable(value = "villages", key = "T(com.base.config.cache.PageKey).of(#page, #size, #search)", sync = true)
     public Page<VillageDTO> listVillages(Integer page,
                                          Integer size,
                                          String search) {
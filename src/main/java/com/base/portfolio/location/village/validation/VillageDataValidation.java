@@ -16,10 +16,9 @@
 package com.base.portfolio.location.village.validation;
 
 import com.base.config.serialization.JsonHelper;
+import com.base.core.command.data.JsonCommand;
 import com.base.core.exception.ApiDataValidator;
 import com.base.portfolio.location.village.controller.VillageConstants;
-import com.google.gson.reflect.TypeToken;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -39,13 +38,9 @@ public class VillageDataValidation {
         this.validator = validator;
     }
 
-    public void create(String json) {
-
-        final var typeOfMap = new TypeToken<Map<String, String>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, VillageConstants.SUPPORTED_PARAMETERS);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void create(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, VillageConstants.SUPPORTED_PARAMETERS);
 
         final var commune = this.jsonHelper.extractLong(VillageConstants.COMMUNE, jsonElement);
         validator.parameter(VillageConstants.COMMUNE, commune)
@@ -84,12 +79,9 @@ public class VillageDataValidation {
                 .maxLength(50);
     }
 
-    public void update(String json) {
-        final var typeOfMap = new TypeToken<Map<String, String>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, VillageConstants.SUPPORTED_PARAMETERS);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void update(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, VillageConstants.SUPPORTED_PARAMETERS);
 
         if (this.jsonHelper.parameterExists(VillageConstants.COMMUNE, jsonElement)) {
             final var commune = this.jsonHelper.extractLong(VillageConstants.COMMUNE, jsonElement);
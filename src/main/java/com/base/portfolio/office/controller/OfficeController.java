@@ -17,10 +17,11 @@ package com.base.portfolio.office.controller;
 
 import com.base.core.command.service.LogService;
 import com.base.core.pageable.PageableHateoasAssembler;
-import com.base.core.serializer.JsonSerializerImpl;
+import com.base.core.serializer.JsonBody;
 import com.base.portfolio.office.dto.OfficeDTO;
 import com.base.portfolio.office.handler.OfficeCommandHandler;
 import com.base.portfolio.office.service.OfficeService;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.http.ResponseEntity;
@@ -35,51 +36,48 @@ import org.springframework.web.bind.annotation.*;
 public class OfficeController {
 
     private final PageableHateoasAssembler pageable;
-    private final JsonSerializerImpl<OfficeDTO> serializer;
     private final OfficeService service;
     private final LogService logService;
 
     @Autowired
     public OfficeController(final PageableHateoasAssembler pageable,
-                            final JsonSerializerImpl<OfficeDTO> serializer,
                             final OfficeService service,
                             final LogService logService) {
         this.pageable = pageable;
-        this.serializer = serializer;
         this.service = service;
         this.logService = logService;
     }
 
     @PostMapping
-    public String createOffice(@RequestBody String json) {
+    public JsonBody<Map<String, Object>> createOffice(@RequestBody String json) {
 
         final var command = new OfficeCommandHandler().create()
                 .json(json)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @PutMapping("/{id}")
-    public String updateOffice(@PathVariable Long id,
-                               @RequestBody String json) {
+    public JsonBody<Map<String, Object>> updateOffice(@PathVariable Long id,
+                                                      @RequestBody String json) {
 
         final var command = new OfficeCommandHandler().update(id)
                 .json(json)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @DeleteMapping("/{id}")
-    public String deleteOffice(@PathVariable Long id) {
+    public JsonBody<Map<String, Object>> deleteOffice(@PathVariable Long id) {
         final var command = new OfficeCommandHandler().delete(id)
                 .build();
 
         final var data = this.logService.log(command);
-        return this.serializer.serialize(data);
+        return JsonBody.of(data);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.portfolio.office.dto;
+
+import com.base.core.command.data.CommandFields;
+import com.base.core.command.data.JsonCommand;
+import com.base.portfolio.office.controller.OfficeConstants;
+
+/**
+ * Office fields of a create or update command, bound in one pass with a presence bit per field.
+ *
+ * @author YISivlay
+ */
+public record OfficeCommandData(int present,
+                                Long parentId,
+                                String nameEn,
+                                String nameKm,
+                                String nameZh) {
+
+    public static final int PARENT_ID = 1;
+    public static final int NAME_EN = 1 << 1;
+    public static final int NAME_KM = 1 << 2;
+    public static final int NAME_ZH = 1 << 3;
+
+    public static OfficeCommandData of(final JsonCommand command) {
+        int present = 0;
+        Long parentId = null;
+        String nameEn = null;
+        String nameKm = null;
+        String nameZh = null;
+        for (var entry : command.entries()) {
+            switch (entry.getKey()) {
+                case OfficeConstants.PARENT_ID -> {
+                    present |= PARENT_ID;
+                    parentId = CommandFields.asLong(entry.getValue());
+                }
+                case OfficeConstants.NAME_EN -> {
+                    present |= NAME_EN;
+                    nameEn = CommandFields.asString(entry.getValue());
+                }
+                case OfficeConstants.NAME_KM -> {
+                    present |= NAME_KM;
+                    nameKm = CommandFields.asString(entry.getValue());
+                }
+                case OfficeConstants.NAME_ZH -> {
+                    present |= NAME_ZH;
+                    nameZh = CommandFields.asString(entry.getValue());
+                }
+                default -> {
+                }
+            }
+        }
+        return new OfficeCommandData(present, parentId, nameEn, nameKm, nameZh);
+    }
+
+    public boolean has(final int field) {
+        return (this.present & field) != 0;
+    }
+
+}
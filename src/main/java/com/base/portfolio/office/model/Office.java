@@ -16,8 +16,10 @@
 package com.base.portfolio.office.model;
 
 import com.base.core.auditable.CustomAbstractAuditable;
+import com.base.core.command.data.CommandFields;
 import com.base.core.command.data.JsonCommand;
 import com.base.portfolio.office.controller.OfficeConstants;
+import com.base.portfolio.office.dto.OfficeCommandData;
 import jakarta.persistence.*;
 import java.util.HashMap;
 import java.util.Map;
@@ -73,28 +75,25 @@ public class Office extends CustomAbstractAuditable {
     }
 
     public Map<String, Object> changed(final JsonCommand command) {
+        final var data = OfficeCommandData.of(command);
         final Map<String, Object> changes = new HashMap<>(7);
 
-        if (command.isChangeAsLong(OfficeConstants.PARENT_ID, this.parent == null
+        if (data.has(OfficeCommandData.PARENT_ID) && CommandFields.isChange(data.parentId(), this.parent == null
                 ? null
                 : this.parent.getId())) {
-            final var value = command.extractLong(OfficeConstants.PARENT_ID);
-            changes.put(OfficeConstants.PARENT_ID, value);
+            changes.put(OfficeConstants.PARENT_ID, data.parentId());
         }
-        if (command.isChangeAsString(OfficeConstants.NAME_EN, this.nameEn)) {
-            final var value = command.extractString(OfficeConstants.NAME_EN);
-            this.nameEn = value;
-            changes.put(OfficeConstants.NAME_EN, value);
+        if (data.has(OfficeCommandData.NAME_EN) && CommandFields.isChange(data.nameEn(), this.nameEn)) {
+            this.nameEn = data.nameEn();
+            changes.put(OfficeConstants.NAME_EN, data.nameEn());
         }
-        if (command.isChangeAsString(OfficeConstants.NAME_KM, this.nameKm)) {
-            final var value = command.extractString(OfficeConstants.NAME_KM);
-            this.nameKm = value;
-            changes.put(OfficeConstants.NAME_KM, value);
+        if (data.has(OfficeCommandData.NAME_KM) && CommandFields.isChange(data.nameKm(), this.nameKm)) {
+            this.nameKm = data.nameKm();
+            changes.put(OfficeConstants.NAME_KM, data.nameKm());
         }
-        if (command.isChangeAsString(OfficeConstants.NAME_ZH, this.nameZh)) {
-            final var value = command.extractString(OfficeConstants.NAME_ZH);
-            this.nameZh = value;
-            changes.put(OfficeConstants.NAME_ZH, value);
+        if (data.has(OfficeCommandData.NAME_ZH) && CommandFields.isChange(data.nameZh(), this.nameZh)) {
+            this.nameZh = data.nameZh();
+            changes.put(OfficeConstants.NAME_ZH, data.nameZh());
         }
 
         return changes;
@@ -60,9 +60,9 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
-    @CacheEvict(value = "offices", allEntries = true)
+    @CacheEvict(value = "offices", key = "T(com.base.config.cache.PageKey).ALL")
     public Map<String, Object> createOffice(JsonCommand command) {
-        this.validator.create(command.getJson());
+        this.validator.create(command);
 
         final var parentId = command.extractLong(OfficeConstants.PARENT_ID);
         final var parent = parentId != null
@@ -93,13 +93,14 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
+    // Child offices embed the parent's names in their hierarchy, so an update invalidates every office
     @CacheEvict(value = "offices", allEntries = true)
     public Map<String, Object> updateOffice(Long id,
                                             JsonCommand command) {
         var exist = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
 
-        this.validator.update(command.getJson());
+        this.validator.update(command);
 
         var changes = exist.changed(command);
         if (!changes.isEmpty()) {
@@ -121,7 +122,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
-    @CacheEvict(value = "offices", allEntries = true)
+    @CacheEvict(value = "offices", key = "#id")
     public Map<String, Object> deleteOffice(Long id) {
 
         var exist = this.repository.findById(id)
@@ -138,7 +139,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
-    @Cacheable(value = "offices", key = "#id")
+    @Cacheable(value = "offices", key = "#id", sync = true)
     public OfficeDTO getOfficeById(Long id) {
         var office = this.repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("msg.not.found", id));
@@ -146,7 +147,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Override
-    @Cacheable(value = "offices", key = "#page + '-' + #size + '-' + #search")
+    @Cacheable(value = "offices", key = "T(com.base.config.cache.PageKey).of(#page, #size, #search)", sync = true)
     public Page<OfficeDTO> listOffices(Integer page,
                                        Integer size,
                                        String search) {
@@ -16,10 +16,9 @@
 package com.base.portfolio.office.validation;
 
 import com.base.config.serialization.JsonHelper;
+import com.base.core.command.data.JsonCommand;
 import com.base.core.exception.ApiDataValidator;
 import com.base.portfolio.office.controller.OfficeConstants;
-import com.google.gson.reflect.TypeToken;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -39,13 +38,9 @@ public class OfficeDataValidation {
         this.validator = validator;
     }
 
-    public void create(String json) {
-
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, OfficeConstants.SUPPORTED_PARAMETER);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void create(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, OfficeConstants.SUPPORTED_PARAMETER);
 
         final var nameEn = this.jsonHelper.extractString(OfficeConstants.NAME_EN, jsonElement);
         validator.parameter(OfficeConstants.NAME_EN, nameEn)
@@ -69,13 +64,9 @@ public class OfficeDataValidation {
         }
     }
 
-    public void update(String json) {
-
-        final var typeOfMap = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        this.jsonHelper.unsupportedParameters(typeOfMap, json, OfficeConstants.SUPPORTED_PARAMETER);
-
-        final var jsonElement = this.jsonHelper.parse(json);
+    public void update(JsonCommand command) {
+        final var jsonElement = command.getJsonElement();
+        this.jsonHelper.unsupportedParameters(jsonElement, OfficeConstants.SUPPORTED_PARAMETER);
 
         if (this.jsonHelper.parameterExists(OfficeConstants.NAME_EN, jsonElement)) {
             final var nameEn = this.jsonHelper.extractString(OfficeConstants.NAME_EN, jsonElement);
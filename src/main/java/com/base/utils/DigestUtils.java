@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 iSLDevs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.base.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * @author YISivlay
+ */
+public class DigestUtils {
+
+    private DigestUtils() {
+    }
+
+    /**
+     * Returns the SHA-256 digest of a value, base64url-encoded without padding, for use as a cache or index key that
+     * must not hold the value itself (tokens, idempotency keys).
+     *
+     * @param value
+     *     the value to digest, encoded as UTF-8
+     * @return the 43-character digest
+     */
+    public static String sha256(String value) {
+        var digest = sha256();
+        return encode(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns a new SHA-256 {@link MessageDigest}, for input fed in several parts.
+     *
+     * @return an empty digest
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Encodes a digest as base64url without padding, the form {@link #sha256(String)} returns.
+     *
+     * @param digest
+     *     the raw digest bytes
+     * @return the encoded digest
+     */
+    public static String encode(byte[] digest) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(digest);
+    }
+
+}
@@ -0,0 +1,2 @@
+INSERT INTO scheduled_job (job_name, cron_expression, bean_name, enabled)
+VALUES ('reap_oauth2_authorization', '0 0 * * * *', 'oauth2AuthorizationReaper', true);
@@ -0,0 +1,2 @@
+ALTER TABLE rsa_key_pairs
+    ADD COLUMN algorithm VARCHAR(10) NOT NULL DEFAULT 'RS256';
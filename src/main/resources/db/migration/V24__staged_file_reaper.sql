@@ -0,0 +1,2 @@
+INSERT INTO scheduled_job (job_name, cron_expression, bean_name, enabled)
+VALUES ('reap_staged_file', '0 30 * * * *', 'stagedFileReaper', true);
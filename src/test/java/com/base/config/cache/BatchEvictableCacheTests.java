@@ -1,9 +1,9 @@
-package com.base.config.core.serializer;
+package com.base.config.cache;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
-class GsonSerializerTests {
+class BatchEvictableCacheTests {
 
 	@Test
 	void contextLoads() {
@@ -0,0 +1,178 @@
+package com.base.config.cache;
+
+import com.base.core.authentication.role.dto.RoleDTO;
+import com.base.core.authentication.user.dto.UserDTO;
+import com.base.portfolio.location.commune.dto.CommuneDTO;
+import com.base.portfolio.location.district.dto.DistrictDTO;
+import com.base.portfolio.location.province.dto.ProvinceDTO;
+import com.base.portfolio.location.village.dto.VillageDTO;
+import com.base.portfolio.office.dto.OfficeDTO;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Stored size and encode/decode cost of Redis cache values under the previous {@link GenericJackson2JsonRedisSerializer}
+ * and {@link VersionedRedisSerializer}, with and without compression, run with {@code main}. Fails when a framed value
+ * does not read back to the same encoding.
+ */
+public class RedisCodecBenchmark {
+
+    private static final int WARMUP = 10_000;
+    private static final int ITERATIONS = 50_000;
+
+    public static void main(String[] args) {
+        Map<String, RedisSerializer<Object>> serializers = new LinkedHashMap<>();
+        serializers.put("generic-json", new GenericJackson2JsonRedisSerializer());
+        serializers.put("framed", new VersionedRedisSerializer(DataSize.ofBytes(Integer.MAX_VALUE), new JsonCacheValueCodec()));
+        serializers.put("framed-deflate", new VersionedRedisSerializer(DataSize.ofKilobytes(1), new JsonCacheValueCodec()));
+
+        Map<String, Object> samples = new LinkedHashMap<>();
+        samples.put("office", office());
+        samples.put("user", user());
+        samples.put("village page", villagePage());
+        samples.put("province", province());
+
+        System.out.printf("%-14s %-16s %10s %14s %14s%n", "sample", "serializer", "bytes", "encode ns/op", "decode ns/op");
+        for (var sample : samples.entrySet()) {
+            for (var serializer : serializers.entrySet()) {
+                var value = sample.getValue();
+                var codec = serializer.getValue();
+                var bytes = codec.serialize(value);
+                var decodes = decodes(codec, bytes);
+                if (!decodes && codec instanceof VersionedRedisSerializer) {
+                    throw new IllegalStateException(sample.getKey() + " does not read back with " + serializer.getKey());
+                }
+
+                var encode = run(value, v -> codec.serialize(v).length);
+                var decode = decodes
+                        ? String.format("%.0f", run(bytes, b -> codec.deserialize(b) == null
+                                ? 0
+                                : 1))
+                        : "fails";
+                System.out.printf("%-14s %-16s %10d %14.0f %14s%n", sample.getKey(), serializer.getKey(), bytes.length, encode, decode);
+            }
+        }
+    }
+
+    private static boolean decodes(RedisSerializer<Object> codec,
+                                   byte[] bytes) {
+        try {
+            return Arrays.equals(bytes, codec.serialize(codec.deserialize(bytes)));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static <T> double run(T input,
+                                  Function<T, Integer> operation) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += operation.apply(input);
+        }
+        long cpu = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += operation.apply(input);
+        }
+        if (sink == 0) {
+            System.out.println("!");
+        }
+        return (threads.getCurrentThreadCpuTime() - cpu) / (double) ITERATIONS;
+    }
+
+    private static OfficeDTO office() {
+        var parent = OfficeDTO.builder()
+                .id(1L)
+                .nameEn("Head Office")
+                .hierarchyEn(".")
+                .build();
+        return OfficeDTO.builder()
+                .id(12L)
+                .parent(parent)
+                .decorated("....Branch Phnom Penh")
+                .nameEn("Branch Phnom Penh")
+                .nameKm("សាខាភ្នំពេញ")
+                .hierarchyEn(".1.12.")
+                .build();
+    }
+
+    private static UserDTO user() {
+        var admin = RoleDTO.builder()
+                .id(1L)
+                .name("ADMIN")
+                .authorities(new HashSet<>(List.of("READ_USER", "CREATE_USER", "UPDATE_USER", "DELETE_USER", "READ_OFFICE")))
+                .build();
+        return UserDTO.builder()
+                .id(7L)
+                .username("sivlay")
+                .name("Yi Sivlay")
+                .email("sivlay@example.com")
+                .roles(new HashSet<>(List.of(admin)))
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .build();
+    }
+
+    private static PageImpl<VillageDTO> villagePage() {
+        List<VillageDTO> villages = new ArrayList<>();
+        for (long v = 1; v <= 50; v++) {
+            villages.add(VillageDTO.builder()
+                    .id(v)
+                    .communeId(v / 10 + 1)
+                    .nameEn("Village " + v)
+                    .nameKm("ភូមិ " + v)
+                    .postalCode("1201" + v)
+                    .build());
+        }
+        return new PageImpl<>(villages, PageRequest.of(0, 50), 14_000);
+    }
+
+    private static ProvinceDTO province() {
+        List<DistrictDTO> districts = new ArrayList<>();
+        for (long d = 1; d <= 10; d++) {
+            List<CommuneDTO> communes = new ArrayList<>();
+            for (long c = 1; c <= 10; c++) {
+                communes.add(CommuneDTO.builder()
+                        .id(d * 100 + c)
+                        .districtId(d)
+                        .type("COMMUNE")
+                        .nameEn("Commune " + c)
+                        .nameKm("ឃុំ " + c)
+                        .postalCode("120" + d + c)
+                        .build());
+            }
+            districts.add(DistrictDTO.builder()
+                    .id(d)
+                    .provinceId(1L)
+                    .type("DISTRICT")
+                    .nameEn("District " + d)
+                    .nameKm("ស្រុក " + d)
+                    .postalCode("120" + d)
+                    .communes(communes)
+                    .build());
+        }
+        return ProvinceDTO.builder()
+                .id(1L)
+                .type("PROVINCE")
+                .nameEn("Phnom Penh")
+                .nameKm("ភ្នំពេញ")
+                .postalCode("12000")
+                .districts(districts)
+                .build();
+    }
+
+}
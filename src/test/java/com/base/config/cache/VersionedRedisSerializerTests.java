@@ -0,0 +1,12 @@
+package com.base.config.cache;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedRedisSerializerTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
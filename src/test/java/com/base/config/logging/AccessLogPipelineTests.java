@@ -0,0 +1,12 @@
+package com.base.config.logging;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogPipelineTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
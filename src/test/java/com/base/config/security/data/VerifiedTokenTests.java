@@ -0,0 +1,12 @@
+package com.base.config.security.data;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
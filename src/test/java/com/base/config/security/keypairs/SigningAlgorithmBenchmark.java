@@ -0,0 +1,74 @@
+package com.base.config.security.keypairs;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sign and verify throughput of the JWS algorithms, run with {@code main}. Ed25519 is measured for comparison only;
+ * {@link SigningAlgorithm} cannot issue it yet.
+ */
+public class SigningAlgorithmBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+    private static final byte[] PAYLOAD = ("eyJhbGciOiJSUzI1NiIsImtpZCI6ImtleSJ9.eyJzdWIiOiJhZG1pbiIsInJvbGVzIjpbIlJPTEVfQURNSU4iXSwiZXhwIjoxNzAwMDAwMDAwfQ")
+            .getBytes(StandardCharsets.US_ASCII);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Object[]> algorithms = new LinkedHashMap<>();
+        algorithms.put("RS256", new Object[]{"SHA256withRSA", SigningAlgorithm.RS256.generateKeyPair()});
+        algorithms.put("ES256", new Object[]{"SHA256withECDSAinP1363Format", SigningAlgorithm.ES256.generateKeyPair()});
+        algorithms.put("EdDSA", new Object[]{"Ed25519", KeyPairGenerator.getInstance("Ed25519")
+                .generateKeyPair()});
+
+        System.out.printf("%-8s %14s %14s%n", "alg", "sign ops/s", "verify ops/s");
+        for (var entry : algorithms.entrySet()) {
+            var signatureAlgorithm = (String) entry.getValue()[0];
+            var keyPair = (KeyPair) entry.getValue()[1];
+            var signature = sign(signatureAlgorithm, keyPair, WARMUP);
+            verify(signatureAlgorithm, keyPair, signature, WARMUP);
+
+            var start = System.nanoTime();
+            sign(signatureAlgorithm, keyPair, ITERATIONS);
+            var signOps = ITERATIONS / ((System.nanoTime() - start) / 1e9);
+
+            start = System.nanoTime();
+            verify(signatureAlgorithm, keyPair, signature, ITERATIONS);
+            var verifyOps = ITERATIONS / ((System.nanoTime() - start) / 1e9);
+
+            System.out.printf("%-8s %14.0f %14.0f%n", entry.getKey(), signOps, verifyOps);
+        }
+    }
+
+    private static byte[] sign(String algorithm,
+                               KeyPair keyPair,
+                               int iterations) throws Exception {
+        var signer = Signature.getInstance(algorithm);
+        byte[] signature = null;
+        for (int i = 0; i < iterations; i++) {
+            signer.initSign(keyPair.getPrivate());
+            signer.update(PAYLOAD);
+            signature = signer.sign();
+        }
+        return signature;
+    }
+
+    private static void verify(String algorithm,
+                               KeyPair keyPair,
+                               byte[] signature,
+                               int iterations) throws Exception {
+        var verifier = Signature.getInstance(algorithm);
+        for (int i = 0; i < iterations; i++) {
+            verifier.initVerify(keyPair.getPublic());
+            verifier.update(PAYLOAD);
+            if (!verifier.verify(signature)) {
+                throw new IllegalStateException(algorithm + " signature did not verify");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.base.config.security.keypairs;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigningAlgorithmTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
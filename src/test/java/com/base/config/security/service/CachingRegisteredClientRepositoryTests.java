@@ -0,0 +1,12 @@
+package com.base.config.security.service;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingRegisteredClientRepositoryTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.base.config.serialization;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteArrayJsonSerializerTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
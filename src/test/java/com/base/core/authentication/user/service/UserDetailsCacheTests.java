@@ -0,0 +1,12 @@
+package com.base.core.authentication.user.service;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDetailsCacheTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
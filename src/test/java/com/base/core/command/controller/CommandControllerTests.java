@@ -0,0 +1,12 @@
+package com.base.core.command.controller;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandControllerTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
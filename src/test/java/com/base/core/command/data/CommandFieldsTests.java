@@ -0,0 +1,12 @@
+package com.base.core.command.data;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandFieldsTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
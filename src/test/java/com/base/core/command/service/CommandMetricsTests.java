@@ -0,0 +1,12 @@
+package com.base.core.command.service;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandMetricsTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
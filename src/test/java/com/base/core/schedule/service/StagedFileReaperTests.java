@@ -0,0 +1,12 @@
+package com.base.core.schedule.service;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StagedFileReaperTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
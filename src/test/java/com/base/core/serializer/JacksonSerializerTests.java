@@ -0,0 +1,12 @@
+package com.base.core.serializer;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonSerializerTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
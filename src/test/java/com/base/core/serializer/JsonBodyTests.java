@@ -3,7 +3,7 @@ package com.base.core.serializer;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
-class GsonSerializerTests {
+class JsonBodyTests {
 
 	@Test
 	void contextLoads() {
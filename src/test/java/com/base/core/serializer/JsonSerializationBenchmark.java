@@ -0,0 +1,156 @@
+package com.base.core.serializer;
+
+import com.base.config.serialization.JsonConfig;
+import com.base.portfolio.location.commune.dto.CommuneDTO;
+import com.base.portfolio.location.district.dto.DistrictDTO;
+import com.base.portfolio.location.province.dto.ProvinceDTO;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Response serialization cost of the previous snake_case Gson path against {@link JacksonSerializer}, run with
+ * {@code main}. Both sides produce UTF-8 bytes, as the response does, and alternate over several rounds so neither
+ * gets the later, better-compiled slot. Fails when the two produce different JSON for a sample.
+ */
+public class JsonSerializationBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int ROUNDS = 4;
+
+    public static void main(String[] args) {
+        var gson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create();
+        var builder = Jackson2ObjectMapperBuilder.json();
+        new JsonConfig().jsonCustomizer()
+                .customize(builder);
+        var jackson = new JacksonSerializer(builder.build());
+
+        Map<String, Object> samples = new LinkedHashMap<>();
+        samples.put("command result", commandResult());
+        samples.put("province", province());
+        samples.put("file bytes", fileBytes());
+
+        for (var entry : samples.entrySet()) {
+            var expected = gson.toJson(entry.getValue());
+            var actual = jackson.serialize(entry.getValue());
+            if (!JsonParser.parseString(expected)
+                    .equals(JsonParser.parseString(actual))) {
+                throw new IllegalStateException(entry.getKey() + " differs:\n" + expected + "\n" + actual);
+            }
+        }
+
+        System.out.printf("%-6s %-16s %-8s %12s %12s%n", "round", "sample", "stack", "ns/op", "cpu ns/op");
+        for (int round = 1; round <= ROUNDS; round++) {
+            for (var entry : samples.entrySet()) {
+                run(round, entry.getKey(), "gson", entry.getValue(), v -> gsonWrite(gson, v));
+                run(round, entry.getKey(), "jackson", entry.getValue(), v -> jacksonWrite(jackson, v));
+            }
+        }
+    }
+
+    private static void run(int round,
+                            String sample,
+                            String stack,
+                            Object value,
+                            Function<Object, Integer> write) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += write.apply(value);
+        }
+        long cpu = threads.getCurrentThreadCpuTime();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += write.apply(value);
+        }
+        double wall = (System.nanoTime() - start) / (double) ITERATIONS;
+        double used = (threads.getCurrentThreadCpuTime() - cpu) / (double) ITERATIONS;
+        System.out.printf("%-6d %-16s %-8s %12.0f %12.0f%s%n", round, sample, stack, wall, used, sink == 0 ? " !" : "");
+    }
+
+    private static int gsonWrite(Gson gson,
+                                 Object value) {
+        return gson.toJson(value)
+                .getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static int jacksonWrite(JacksonSerializer jackson,
+                                    Object value) {
+        var out = new ByteArrayOutputStream(1024);
+        try {
+            jackson.write(value, out);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return out.size();
+    }
+
+    private static Map<String, Object> commandResult() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", 42L);
+        result.put("entity", "PROVINCE");
+        result.put("action", "UPDATE");
+        result.put("changes", Map.of("name_en", "Phnom Penh", "postal_code", "12000"));
+        return result;
+    }
+
+    private static Map<String, Object> fileBytes() {
+        var bytes = new byte[4096];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("file", bytes);
+        result.put("message", "Success");
+        return result;
+    }
+
+    private static ProvinceDTO province() {
+        List<DistrictDTO> districts = new ArrayList<>();
+        for (long d = 1; d <= 10; d++) {
+            List<CommuneDTO> communes = new ArrayList<>();
+            for (long c = 1; c <= 10; c++) {
+                communes.add(CommuneDTO.builder()
+                        .id(d * 100 + c)
+                        .districtId(d)
+                        .type("COMMUNE")
+                        .nameEn("Commune " + c)
+                        .nameKm("ឃុំ " + c)
+                        .postalCode("120" + d + c)
+                        .build());
+            }
+            districts.add(DistrictDTO.builder()
+                    .id(d)
+                    .provinceId(1L)
+                    .type("DISTRICT")
+                    .nameEn("District " + d)
+                    .nameKm("ស្រុក " + d)
+                    .nameZh("区 " + d)
+                    .postalCode("120" + d)
+                    .communes(communes)
+                    .build());
+        }
+        return ProvinceDTO.builder()
+                .id(1L)
+                .type("PROVINCE")
+                .nameEn("Phnom Penh")
+                .nameKm("ភ្នំពេញ")
+                .postalCode("12000")
+                .districts(districts)
+                .build();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.base.portfolio.file.repository;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StagedFileTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.base.portfolio.location.commune.dto;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommuneCommandDataTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
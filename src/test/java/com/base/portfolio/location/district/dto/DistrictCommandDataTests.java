@@ -0,0 +1,12 @@
+package com.base.portfolio.location.district.dto;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistrictCommandDataTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.base.portfolio.location.province.dto;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProvinceCommandDataTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.base.portfolio.location.village.dto;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VillageCommandDataTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
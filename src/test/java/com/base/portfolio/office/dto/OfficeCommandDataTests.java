@@ -0,0 +1,12 @@
+package com.base.portfolio.office.dto;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OfficeCommandDataTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.base.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigestUtilsTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}